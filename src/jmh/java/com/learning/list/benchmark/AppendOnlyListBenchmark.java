@@ -0,0 +1,88 @@
+package com.learning.list.benchmark;
+
+import com.learning.list.AppendOnlyList;
+import com.learning.list.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-producer appends: the lock-free AppendOnlyList against a MyArrayList guarded by
+ * a synchronized block, with 1, 4 and 8 producer threads. Compare the scores of the same
+ * list across thread counts to see how appends scale. The lists are replaced every
+ * iteration and the iterations are short to bound memory.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="AppendOnlyListBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AppendOnlyListBenchmark {
+    private static final Object EVENT = new Object();
+
+    private AppendOnlyList<Object> appendOnlyList;
+    private MyArrayList<Object> synchronizedList;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        appendOnlyList = new AppendOnlyList<>();
+        synchronizedList = new MyArrayList<>();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int appendOnly1() {
+        return appendOnlyList.add(EVENT);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int appendOnly4() {
+        return appendOnlyList.add(EVENT);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int appendOnly8() {
+        return appendOnlyList.add(EVENT);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean synchronized1() {
+        synchronized (synchronizedList) {
+            return synchronizedList.add(EVENT);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean synchronized4() {
+        synchronized (synchronizedList) {
+            return synchronizedList.add(EVENT);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean synchronized8() {
+        synchronized (synchronizedList) {
+            return synchronizedList.add(EVENT);
+        }
+    }
+}
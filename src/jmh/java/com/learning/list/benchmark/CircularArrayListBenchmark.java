@@ -0,0 +1,74 @@
+package com.learning.list.benchmark;
+
+import com.learning.list.CircularArrayList;
+import com.learning.list.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queue-like usage on a list of constant size: append at the tail, remove at index 0.
+ * Also compares insert/remove near the head, where the circular buffer moves only the shorter side.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="CircularArrayListBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CircularArrayListBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int size;
+
+    private MyArrayList<Integer> myArrayList;
+    private CircularArrayList<Integer> circularArrayList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        myArrayList = new MyArrayList<>();
+        circularArrayList = new CircularArrayList<>();
+        for (int i = 0; i < size; i++) {
+            myArrayList.add(i);
+            circularArrayList.add(i);
+        }
+    }
+
+    @Benchmark
+    public Integer myArrayListQueue() {
+        myArrayList.add(1);
+        return myArrayList.remove(0);
+    }
+
+    @Benchmark
+    public Integer circularArrayListQueue() {
+        circularArrayList.add(1);
+        return circularArrayList.removeFirst();
+    }
+
+    @Benchmark
+    public Integer myArrayListEditNearHead() {
+        myArrayList.add(3, 1);
+        return myArrayList.remove(3);
+    }
+
+    @Benchmark
+    public Integer circularArrayListEditNearHead() {
+        circularArrayList.add(3, 1);
+        return circularArrayList.remove(3);
+    }
+}
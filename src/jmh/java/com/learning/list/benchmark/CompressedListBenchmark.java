@@ -0,0 +1,160 @@
+package com.learning.list.benchmark;
+
+import com.learning.list.CompressedLongList;
+import com.learning.list.DictionaryEncodedList;
+import com.learning.list.LongArrayList;
+import com.learning.list.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the compressed lists with their plain counterparts.
+ * The *Fill benchmarks show the memory cost: with {@code -prof gc} the
+ * gc.alloc.rate.norm column is the number of bytes allocated to build one list.
+ * The country lists hold eight distinct values, so the dictionary list stores one-byte
+ * codes instead of four-byte references and drops the duplicate strings.
+ * The *Sum benchmarks show the cost of a sequential decode, the *Get benchmarks
+ * the cost of random access into a block.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="CompressedListBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompressedListBenchmark {
+    private static final String[] COUNTRIES = {"DE", "FR", "PL", "US", "JP", "BR", "IN", "NG"};
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private LongArrayList ids;
+    private CompressedLongList compressedIds;
+    private MyArrayList<String> countries;
+    private DictionaryEncodedList<String> encodedCountries;
+    private int[] randomIndexes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ids = fillIds();
+        compressedIds = fillCompressedIds();
+        countries = fillCountries();
+        encodedCountries = fillEncodedCountries();
+        randomIndexes = new int[1024];
+        long seed = 42;
+        for (int i = 0; i < randomIndexes.length; i++) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            randomIndexes[i] = (int) ((seed >>> 33) % size);
+        }
+    }
+
+    @Benchmark
+    public LongArrayList fillIds() {
+        LongArrayList list = new LongArrayList();
+        long id = 1_000_000_000L;
+        for (int i = 0; i < size; i++) {
+            id += 1 + (i & 15);
+            list.add(id);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public CompressedLongList fillCompressedIds() {
+        CompressedLongList list = new CompressedLongList();
+        long id = 1_000_000_000L;
+        for (int i = 0; i < size; i++) {
+            id += 1 + (i & 15);
+            list.add(id);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long sumIds() {
+        long sum = 0;
+        PrimitiveIterator.OfLong it = ids.iterator();
+        while (it.hasNext()) {
+            sum += it.nextLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumCompressedIds() {
+        long sum = 0;
+        PrimitiveIterator.OfLong it = compressedIds.iterator();
+        while (it.hasNext()) {
+            sum += it.nextLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getIds() {
+        long sum = 0;
+        for (int index : randomIndexes) {
+            sum += ids.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getCompressedIds() {
+        long sum = 0;
+        for (int index : randomIndexes) {
+            sum += compressedIds.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public MyArrayList<String> fillCountries() {
+        MyArrayList<String> list = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(new String(COUNTRIES[i % COUNTRIES.length]));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public DictionaryEncodedList<String> fillEncodedCountries() {
+        DictionaryEncodedList<String> list = new DictionaryEncodedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(new String(COUNTRIES[i % COUNTRIES.length]));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public int countCountry() {
+        int count = 0;
+        for (String country : countries) {
+            if ("PL".equals(country)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int countEncodedCountry() {
+        return encodedCountries.count("PL");
+    }
+}
@@ -0,0 +1,82 @@
+package com.learning.list.benchmark;
+
+import com.learning.list.ConcurrentMyArrayList;
+import com.learning.list.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-mostly workload: seven readers and one writer share a list.
+ * Compares ConcurrentMyArrayList with a MyArrayList guarded by synchronized blocks.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ConcurrentListBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ConcurrentListBenchmark {
+    private static final int SIZE = 10_000;
+
+    private ConcurrentMyArrayList<Integer> concurrentList;
+    private MyArrayList<Integer> synchronizedList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        concurrentList = new ConcurrentMyArrayList<>(SIZE);
+        synchronizedList = new MyArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            concurrentList.add(i);
+            synchronizedList.add(i);
+        }
+    }
+
+    @Benchmark
+    @Group("stampedLock")
+    @GroupThreads(7)
+    public Integer stampedLockGet() {
+        return concurrentList.get(ThreadLocalRandom.current().nextInt(SIZE));
+    }
+
+    @Benchmark
+    @Group("stampedLock")
+    @GroupThreads(1)
+    public Integer stampedLockSet() {
+        return concurrentList.set(ThreadLocalRandom.current().nextInt(SIZE), 1);
+    }
+
+    @Benchmark
+    @Group("synchronizedBlock")
+    @GroupThreads(7)
+    public Integer synchronizedGet() {
+        synchronized (synchronizedList) {
+            return synchronizedList.get(ThreadLocalRandom.current().nextInt(SIZE));
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedBlock")
+    @GroupThreads(1)
+    public Integer synchronizedSet() {
+        synchronized (synchronizedList) {
+            return synchronizedList.set(ThreadLocalRandom.current().nextInt(SIZE), 1);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.learning.list.benchmark;
+
+import com.learning.list.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of the basic operations of {@link MyArrayList} with {@link java.util.ArrayList}.
+ * Every operation has a pair of benchmarks so the results can be read side by side.
+ * <p>
+ * Run with the GC profiler to see the allocation rate of the grow() and arraycopy paths:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="MyArrayListBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MyArrayListBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"INTEGER", "STRING"})
+    private ElementType elementType;
+
+    @Param({"HEAD", "MIDDLE", "TAIL"})
+    private Position position;
+
+    private Object[] elements;
+    private MyArrayList<Object> myArrayList;
+    private ArrayList<Object> arrayList;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = elementType.create(i);
+        }
+        myArrayList = new MyArrayList<>();
+        arrayList = new ArrayList<>();
+        for (Object element : elements) {
+            myArrayList.add(element);
+            arrayList.add(element);
+        }
+        index = position.indexFor(size);
+    }
+
+    @Benchmark
+    public MyArrayList<Object> myArrayListAdd() {
+        MyArrayList<Object> list = new MyArrayList<>();
+        for (Object element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Object> arrayListAdd() {
+        ArrayList<Object> list = new ArrayList<>();
+        for (Object element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Object> myArrayListAddAll() {
+        MyArrayList<Object> list = new MyArrayList<>();
+        list.addAll(elements);
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Object> arrayListAddAll() {
+        ArrayList<Object> list = new ArrayList<>();
+        list.addAll(Arrays.asList(elements));
+        return list;
+    }
+
+    /**
+     * Inserts and removes at the same position so the list keeps its size between invocations.
+     */
+    @Benchmark
+    public Object myArrayListAddAndRemoveAtPosition() {
+        myArrayList.add(index, elements[0]);
+        return myArrayList.remove(index);
+    }
+
+    @Benchmark
+    public Object arrayListAddAndRemoveAtPosition() {
+        arrayList.add(index, elements[0]);
+        return arrayList.remove(index);
+    }
+
+    @Benchmark
+    public Object myArrayListGet() {
+        return myArrayList.get(index);
+    }
+
+    @Benchmark
+    public Object arrayListGet() {
+        return arrayList.get(index);
+    }
+
+    @Benchmark
+    public void myArrayListIterate(Blackhole blackhole) {
+        for (Object element : myArrayList) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void arrayListIterate(Blackhole blackhole) {
+        for (Object element : arrayList) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void myArrayListForEach(Blackhole blackhole) {
+        myArrayList.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void arrayListForEach(Blackhole blackhole) {
+        arrayList.forEach(blackhole::consume);
+    }
+
+    /**
+     * Refills the lists before every invocation. With small sizes the timer overhead
+     * of Level.Invocation dominates, so only compare clear() results for the larger sizes.
+     */
+    @State(Scope.Thread)
+    public static class FilledLists {
+        private MyArrayList<Object> myArrayList;
+        private ArrayList<Object> arrayList;
+
+        @Setup(Level.Invocation)
+        public void fill(MyArrayListBenchmark benchmark) {
+            myArrayList = new MyArrayList<>(benchmark.size);
+            arrayList = new ArrayList<>(benchmark.size);
+            for (Object element : benchmark.elements) {
+                myArrayList.add(element);
+                arrayList.add(element);
+            }
+        }
+    }
+
+    @Benchmark
+    public void myArrayListClear(FilledLists lists) {
+        lists.myArrayList.clear();
+    }
+
+    @Benchmark
+    public void arrayListClear(FilledLists lists) {
+        lists.arrayList.clear();
+    }
+
+    public enum ElementType {
+        INTEGER {
+            @Override
+            Object create(int i) {
+                return i;
+            }
+        },
+        STRING {
+            @Override
+            Object create(int i) {
+                return "element-" + i;
+            }
+        };
+
+        abstract Object create(int i);
+    }
+
+    public enum Position {
+        HEAD {
+            @Override
+            int indexFor(int size) {
+                return 0;
+            }
+        },
+        MIDDLE {
+            @Override
+            int indexFor(int size) {
+                return size / 2;
+            }
+        },
+        TAIL {
+            @Override
+            int indexFor(int size) {
+                return size - 1;
+            }
+        };
+
+        abstract int indexFor(int size);
+    }
+}
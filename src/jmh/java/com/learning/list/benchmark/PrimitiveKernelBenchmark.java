@@ -0,0 +1,117 @@
+package com.learning.list.benchmark;
+
+import com.learning.list.DoubleArrayList;
+import com.learning.list.IntArrayList;
+import com.learning.list.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the scan operations of the primitive lists against a boxed {@link MyArrayList}
+ * and against a plain loop over an int[]. The forks always add the incubator module, so the
+ * same benchmark shows the scalar kernels when built without the vector profile and the
+ * Vector API kernels when built with it:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="PrimitiveKernelBenchmark"
+ * mvn -Pjmh,vector test-compile exec:exec -Djmh.args="PrimitiveKernelBenchmark"
+ * </pre>
+ * The searched key is absent, so every search scans the whole list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector"})
+@State(Scope.Thread)
+public class PrimitiveKernelBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private int[] array;
+    private IntArrayList ints;
+    private DoubleArrayList doubles;
+    private MyArrayList<Integer> boxedInts;
+    private IntArrayList target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        array = random.ints(size, 0, 1_000_000).toArray();
+        ints = new IntArrayList(size);
+        ints.addAll(array);
+        doubles = new DoubleArrayList(size);
+        boxedInts = new MyArrayList<>(size);
+        for (int value : array) {
+            doubles.add(value);
+            boxedInts.add(value);
+        }
+        target = new IntArrayList(size);
+    }
+
+    @Benchmark
+    public int loopIndexOf() {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == -1) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int intListIndexOf() {
+        return ints.indexOf(-1);
+    }
+
+    @Benchmark
+    public int doubleListIndexOf() {
+        return doubles.indexOf(-1.0);
+    }
+
+    @Benchmark
+    public int boxedIndexOf() {
+        return boxedInts.indexOf(-1);
+    }
+
+    @Benchmark
+    public int loopCount() {
+        int count = 0;
+        for (int value : array) {
+            if (value >= 250_000 && value <= 750_000) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int intListCount() {
+        return ints.count(250_000, 750_000);
+    }
+
+    @Benchmark
+    public int intListFilterInto() {
+        target.clear();
+        return ints.filterInto(250_000, 750_000, target);
+    }
+
+    @Benchmark
+    public IntArrayList intListFill() {
+        ints.fill(7);
+        return ints;
+    }
+}
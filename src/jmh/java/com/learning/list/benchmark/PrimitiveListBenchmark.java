@@ -0,0 +1,186 @@
+package com.learning.list.benchmark;
+
+import com.learning.list.DoubleArrayList;
+import com.learning.list.IntArrayList;
+import com.learning.list.LongArrayList;
+import com.learning.list.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the primitive lists with a boxed {@link MyArrayList}.
+ * The *Fill benchmarks show the memory cost: with {@code -prof gc} the
+ * gc.alloc.rate.norm column is the number of bytes allocated to build one list,
+ * boxes included. The *Sum benchmarks show the cost of reading the elements back.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="PrimitiveListBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveListBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private MyArrayList<Integer> boxedInts;
+    private IntArrayList ints;
+    private MyArrayList<Long> boxedLongs;
+    private LongArrayList longs;
+    private MyArrayList<Double> boxedDoubles;
+    private DoubleArrayList doubles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boxedInts = fillBoxedInts();
+        ints = fillInts();
+        boxedLongs = fillBoxedLongs();
+        longs = fillLongs();
+        boxedDoubles = fillBoxedDoubles();
+        doubles = fillDoubles();
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> fillBoxedInts() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i * 31);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList fillInts() {
+        IntArrayList list = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            list.add(i * 31);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Long> fillBoxedLongs() {
+        MyArrayList<Long> list = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i * 31L);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LongArrayList fillLongs() {
+        LongArrayList list = new LongArrayList();
+        for (int i = 0; i < size; i++) {
+            list.add(i * 31L);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Double> fillBoxedDoubles() {
+        MyArrayList<Double> list = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i * 0.5);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public DoubleArrayList fillDoubles() {
+        DoubleArrayList list = new DoubleArrayList();
+        for (int i = 0; i < size; i++) {
+            list.add(i * 0.5);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long sumBoxedIntsByIndex() {
+        long sum = 0;
+        for (int i = 0; i < boxedInts.size(); i++) {
+            sum += boxedInts.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumIntsByIndex() {
+        long sum = 0;
+        for (int i = 0; i < ints.size(); i++) {
+            sum += ints.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumBoxedIntsByIterator() {
+        long sum = 0;
+        for (Integer value : boxedInts) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumIntsByIterator() {
+        long sum = 0;
+        PrimitiveIterator.OfInt it = ints.iterator();
+        while (it.hasNext()) {
+            sum += it.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumBoxedLongsByIndex() {
+        long sum = 0;
+        for (int i = 0; i < boxedLongs.size(); i++) {
+            sum += boxedLongs.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumLongsByIndex() {
+        long sum = 0;
+        for (int i = 0; i < longs.size(); i++) {
+            sum += longs.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sumBoxedDoublesByIndex() {
+        double sum = 0;
+        for (int i = 0; i < boxedDoubles.size(); i++) {
+            sum += boxedDoubles.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sumDoublesByIndex() {
+        double sum = 0;
+        for (int i = 0; i < doubles.size(); i++) {
+            sum += doubles.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,53 @@
+package com.learning.list.benchmark;
+
+import com.learning.list.MyArrayList;
+import com.learning.list.SegmentedArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends to an empty list. MyArrayList copies its whole array on every grow(),
+ * SegmentedArrayList only allocates new segments; compare gc.alloc.rate.norm with -prof gc.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="SegmentedArrayListBenchmark -prof gc"
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class SegmentedArrayListBenchmark {
+
+    @Param({"1000000", "10000000", "50000000"})
+    private int size;
+
+    @Benchmark
+    public MyArrayList<Object> myArrayListAppend() {
+        MyArrayList<Object> list = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(this);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public SegmentedArrayList<Object> segmentedArrayListAppend() {
+        SegmentedArrayList<Object> list = new SegmentedArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(this);
+        }
+        return list;
+    }
+}
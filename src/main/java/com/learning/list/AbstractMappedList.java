@@ -0,0 +1,125 @@
+package com.learning.list;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Common part of the read-only lists opened by {@link ListFiles}.
+ * Holds the mapping of a validated file and turns element indexes into byte offsets.
+ * <p>
+ * A mapped list may be read by many threads. Every read holds the read lock of a
+ * {@link StampedLock} and close takes the write lock before unmapping, so close waits
+ * for the reads in progress and later reads throw IllegalStateException instead of
+ * touching unmapped memory. Codecs must not call back into the list they decode.
+ */
+abstract class AbstractMappedList implements AutoCloseable {
+    /**
+     * The mapped file, null once closed. Read and written only under the lock
+     */
+    private MappedByteBuffer buffer;
+    /**
+     * Lock keeping the mapping alive while it is read
+     */
+    private final StampedLock lock = new StampedLock();
+    /**
+     * Number of elements stored in the file
+     */
+    private final int size;
+    /**
+     * Number of bytes per element
+     */
+    private final int width;
+
+    AbstractMappedList(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        this.width = buffer.getInt(8);
+        this.size = (int) buffer.getLong(16);
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains no elements
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Unmaps the file once the reads in progress have finished.
+     * Calling close more than once has no effect
+     */
+    @Override
+    public void close() {
+        MappedByteBuffer b;
+        long stamp = lock.writeLock();
+        try {
+            b = buffer;
+            buffer = null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        DirectBuffers.free(b);
+    }
+
+    /**
+     * Returns true if close has been called
+     *
+     * @return true if the file has been unmapped
+     */
+    public boolean isClosed() {
+        long stamp = lock.readLock();
+        try {
+            return buffer == null;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Takes the read lock that keeps the mapping alive until {@link #unlock(long)}
+     *
+     * @throws IllegalStateException if the list is closed
+     */
+    final long lock() {
+        long stamp = lock.readLock();
+        if (buffer == null) {
+            lock.unlockRead(stamp);
+            throw new IllegalStateException("List is closed");
+        }
+        return stamp;
+    }
+
+    final void unlock(long stamp) {
+        lock.unlockRead(stamp);
+    }
+
+    /**
+     * Returns the mapping. Only valid between {@link #lock()} and {@link #unlock(long)}
+     */
+    final ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Returns the byte offset of the element at the specified position
+     *
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    final int offset(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return ListFiles.HEADER_SIZE + index * width;
+    }
+}
@@ -0,0 +1,236 @@
+package com.learning.list;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A lock-free list that many producer threads can append to while consumers read by index.
+ * <p>
+ * A producer reserves a slot with one getAndAdd on the reservation counter and writes the
+ * element into it with release semantics. Slots live in segments that are never moved:
+ * segment k holds {@code firstSegmentSize << k} slots, so the directory of segments has a
+ * fixed length and is allocated up front, and a missing segment is installed with a single CAS.
+ * <p>
+ * Readers see only published elements. {@link #size()} is the length of the published prefix:
+ * every index below it holds an element whose writes happen-before the read that returns it.
+ * Elements beyond the prefix may already be visible through {@link #tryGet(int)}.
+ * Null elements are not permitted, since an empty slot marks an unpublished element.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class AppendOnlyList<E> implements Iterable<E> {
+    /**
+     * Default number of bits of the first segment size (32 slots)
+     */
+    private static final int DEFAULT_FIRST_SEGMENT_SHIFT = 5;
+
+    private static final VarHandle RESERVED;
+    private static final VarHandle PUBLISHED;
+    private static final VarHandle SEGMENT = MethodHandles.arrayElementVarHandle(Object[][].class);
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            RESERVED = lookup.findVarHandle(AppendOnlyList.class, "reserved", long.class);
+            PUBLISHED = lookup.findVarHandle(AppendOnlyList.class, "published", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Number of bits of the first segment size
+     */
+    private final int firstShift;
+    /**
+     * Segments by number, installed by CAS and never replaced
+     */
+    private final Object[][] segments;
+    /**
+     * Number of slots handed out to producers, accessed through RESERVED
+     */
+    private volatile long reserved;
+    /**
+     * Lower bound of the published prefix, advanced by readers, accessed through PUBLISHED
+     */
+    private volatile int published;
+
+    /**
+     * Constructs an empty list whose first segment has 32 slots
+     */
+    public AppendOnlyList() {
+        this(DEFAULT_FIRST_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Constructs an empty list whose first segment has {@code 1 << firstSegmentShift} slots.
+     * Each following segment is twice as large as the one before
+     *
+     * @param firstSegmentShift the number of bits of the first segment size
+     * @throws IllegalArgumentException if firstSegmentShift is not between 4 and 30
+     */
+    public AppendOnlyList(int firstSegmentShift) {
+        if (firstSegmentShift < 4 || firstSegmentShift > 30) {
+            throw new IllegalArgumentException("Invalid segment shift");
+        }
+        this.firstShift = firstSegmentShift;
+        this.segments = new Object[32 - firstSegmentShift][];
+    }
+
+    /**
+     * Appends the element. Safe to call from any number of threads without locking
+     *
+     * @param e element to be appended
+     * @return the index at which the element was stored
+     * @throws NullPointerException if the element is null
+     * @throws OutOfMemoryError     if the list already holds the maximum number of elements
+     */
+    public int add(E e) {
+        Objects.requireNonNull(e);
+        long index = (long) RESERVED.getAndAdd(this, 1L);
+        if (index >= MyArrayList.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        long position = index + (1L << firstShift);
+        int segmentIndex = 63 - Long.numberOfLeadingZeros(position) - firstShift;
+        int offset = (int) (position - (1L << (segmentIndex + firstShift)));
+        SLOT.setRelease(segment(segmentIndex), offset, e);
+        return (int) index;
+    }
+
+    /**
+     * Returns the number of published elements: every index below it holds a visible element.
+     * Producers that reserved a slot but did not publish it yet hold back the size
+     *
+     * @return the length of the published prefix
+     */
+    public int size() {
+        int size = (int) PUBLISHED.getAcquire(this);
+        int limit = (int) Math.min((long) RESERVED.getAcquire(this), MyArrayList.MAX_ARRAY_SIZE);
+        int start = size;
+        while (size < limit && slot(size) != null) {
+            size++;
+        }
+        if (size != start) {
+            int current = start;
+            while (current < size && !PUBLISHED.weakCompareAndSetRelease(this, current, size)) {
+                current = (int) PUBLISHED.getAcquire(this);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns true if no element has been published yet
+     *
+     * @return true if this list has no published elements
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the element at the specified position of the published prefix
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is not below {@link #size()}
+     */
+    public E get(int index) {
+        if (index < 0 || (index >= (int) PUBLISHED.getAcquire(this) && index >= size())) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return slot(index);
+    }
+
+    /**
+     * Returns the element at the specified position if it has been published, even when
+     * an earlier slot is still being written
+     *
+     * @param index index of the element to return
+     * @return the element, or null if the slot is reserved but not yet published
+     * @throws IndexOutOfBoundsException if index is negative or was never reserved
+     */
+    public E tryGet(int index) {
+        if (index < 0 || index >= (long) RESERVED.getAcquire(this)) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return slot(index);
+    }
+
+    /**
+     * Performs the given action for each element of the published prefix as of the call
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the specified action is null
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        final int end = size();
+        for (int i = 0; i < end; i++) {
+            action.accept(slot(i));
+        }
+    }
+
+    /**
+     * Returns an iterator over the published prefix as of the call. The list only grows,
+     * so the iterator never fails; elements appended later are not returned
+     *
+     * @return an Iterator over the published elements
+     */
+    @Override
+    public Iterator<E> iterator() {
+        final int end = size();
+        return new Iterator<>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < end;
+            }
+
+            @Override
+            public E next() {
+                if (cursor >= end) {
+                    throw new NoSuchElementException();
+                }
+                return slot(cursor++);
+            }
+        };
+    }
+
+    /**
+     * Reads a slot with acquire semantics, so a non-null element is fully constructed
+     */
+    private E slot(int index) {
+        long position = index + (1L << firstShift);
+        int segmentIndex = 63 - Long.numberOfLeadingZeros(position) - firstShift;
+        Object[] segment = (Object[]) SEGMENT.getAcquire(segments, segmentIndex);
+        if (segment == null) {
+            return null;
+        }
+        int offset = (int) (position - (1L << (segmentIndex + firstShift)));
+        return (E) SLOT.getAcquire(segment, offset);
+    }
+
+    /**
+     * Returns the segment, installing it with a CAS if no producer has done so yet
+     */
+    private Object[] segment(int segmentIndex) {
+        Object[] segment = (Object[]) SEGMENT.getAcquire(segments, segmentIndex);
+        if (segment != null) {
+            return segment;
+        }
+        long start = (1L << (segmentIndex + firstShift)) - (1L << firstShift);
+        int length = (int) Math.min(1L << (segmentIndex + firstShift), MyArrayList.MAX_ARRAY_SIZE - start);
+        Object[] created = new Object[length];
+        Object witness = SEGMENT.compareAndExchange(segments, segmentIndex, null, created);
+        return witness == null ? created : (Object[]) witness;
+    }
+}
@@ -0,0 +1,82 @@
+package com.learning.list;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Reads a {@link ListFiles} header and then fixed-width slots from a channel through one reusable chunk buffer.
+ * Never reads past the last slot announced by the header, so the channel can carry more data afterwards.
+ */
+final class ChunkReader {
+    private final ReadableByteChannel channel;
+    private final ByteBuffer chunk;
+    private final int width;
+    private final long count;
+    private long remainingBytes;
+
+    ChunkReader(ReadableByteChannel channel, short kind, int width) throws IOException {
+        if (width <= 0) {
+            throw new IllegalArgumentException("Invalid codec width");
+        }
+        this.channel = channel;
+        this.width = width;
+        ByteBuffer header = ByteBuffer.allocate(ListFiles.HEADER_SIZE).order(ListFiles.BYTE_ORDER);
+        readFully(header);
+        this.count = ListFiles.checkHeader(header, kind, width);
+        if (count > MyArrayList.MAX_ARRAY_SIZE) {
+            throw new IOException("Invalid list stream: too many elements");
+        }
+        this.remainingBytes = count * width;
+        this.chunk = ByteBuffer.allocate(Math.max(ChunkWriter.CHUNK_SIZE / width, 1) * width).order(ListFiles.BYTE_ORDER);
+        chunk.limit(0);
+    }
+
+    /**
+     * Returns the number of elements announced by the header
+     */
+    int count() {
+        return (int) count;
+    }
+
+    /**
+     * Returns the chunk holding the next slot at {@link #offset()}, reading the next chunk first if needed
+     */
+    ByteBuffer slot() throws IOException {
+        if (chunk.remaining() < width) {
+            chunk.clear();
+            chunk.limit((int) Math.min(chunk.capacity(), remainingBytes));
+            readFully(chunk);
+            remainingBytes -= chunk.limit();
+            chunk.flip();
+        }
+        return chunk;
+    }
+
+    /**
+     * Returns the number of slots left in the current chunk, all of them already read from the channel
+     */
+    int buffered() {
+        return chunk.remaining() / width;
+    }
+
+    int offset() {
+        return chunk.position();
+    }
+
+    /**
+     * Marks the current slot as read
+     */
+    void advance() {
+        chunk.position(chunk.position() + width);
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of list stream");
+            }
+        }
+    }
+}
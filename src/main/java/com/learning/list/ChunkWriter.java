@@ -0,0 +1,67 @@
+package com.learning.list;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes a {@link ListFiles} header and then fixed-width slots to a channel through one reusable chunk buffer.
+ * Closing the writer flushes the last chunk but leaves the channel open.
+ */
+final class ChunkWriter implements AutoCloseable {
+    /**
+     * Default size of the reusable chunk in bytes
+     */
+    static final int CHUNK_SIZE = 64 * 1024;
+    private final WritableByteChannel channel;
+    private final ByteBuffer chunk;
+    private final int width;
+
+    ChunkWriter(WritableByteChannel channel, short kind, int width, int count) throws IOException {
+        if (width <= 0) {
+            throw new IllegalArgumentException("Invalid codec width");
+        }
+        this.channel = channel;
+        this.width = width;
+        this.chunk = ByteBuffer.allocate(Math.max(CHUNK_SIZE / width, 1) * width).order(ListFiles.BYTE_ORDER);
+        writeFully(ListFiles.header(kind, width, count));
+    }
+
+    /**
+     * Returns the chunk with room for one more slot at {@link #offset()}, flushing it first if it is full
+     */
+    ByteBuffer slot() throws IOException {
+        if (chunk.remaining() < width) {
+            flush();
+        }
+        return chunk;
+    }
+
+    int offset() {
+        return chunk.position();
+    }
+
+    /**
+     * Marks the current slot as written
+     */
+    void advance() {
+        chunk.position(chunk.position() + width);
+    }
+
+    private void flush() throws IOException {
+        chunk.flip();
+        writeFully(chunk);
+        chunk.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+}
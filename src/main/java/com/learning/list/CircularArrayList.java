@@ -0,0 +1,343 @@
+package com.learning.list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A variant of {@link MyArrayList} that stores its elements in a circular buffer with a head offset.
+ * Adding or removing at either end is amortized O(1), and inserting or removing at an index only
+ * moves the elements on the shorter side of it. Indexed access stays O(1).
+ * Suited for queue-like usage: append at the tail, remove at index 0.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class CircularArrayList<E> implements Iterable<E> {
+    /**
+     * Default initial capacity of the list
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Circular buffer into which the elements are stored
+     */
+    private Object[] elementData;
+    /**
+     * Position of the first element in elementData
+     */
+    private int head = 0;
+    /**
+     * The size of the list (number of elements it contains)
+     */
+    private int size = 0;
+    /**
+     * Counter for modifications to support fail-fast iteration
+     */
+    private int modCount = 0;
+    /**
+     * Policy that decides the new capacity when the buffer is full
+     */
+    private final GrowthPolicy growthPolicy;
+
+    /**
+     * Constructs an empty list with default initial capacity
+     */
+    public CircularArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity
+     *
+     * @param capacity the initial capacity of the list
+     * @throws IllegalArgumentException if capacity is negative or too large
+     */
+    public CircularArrayList(int capacity) {
+        this(capacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity and growth policy
+     *
+     * @param capacity     the initial capacity of the list
+     * @param growthPolicy the policy used to grow the buffer when it is full
+     * @throws IllegalArgumentException if capacity is negative or too large
+     * @throws NullPointerException     if growthPolicy is null
+     */
+    public CircularArrayList(int capacity, GrowthPolicy growthPolicy) {
+        if (capacity < 0 || capacity > MyArrayList.MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Invalid array capacity");
+        }
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+        elementData = new Object[capacity];
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains no elements
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends the specified element to the end of this list
+     *
+     * @param e element to be appended to this list
+     * @return true if the element was added successfully
+     */
+    public boolean add(E e) {
+        if (size == elementData.length) {
+            grow();
+        }
+        elementData[physical(size)] = e;
+        modCount++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the beginning of this list in O(1)
+     *
+     * @param e element to be inserted
+     */
+    public void addFirst(E e) {
+        if (size == elementData.length) {
+            grow();
+        }
+        head = head == 0 ? elementData.length - 1 : head - 1;
+        elementData[head] = e;
+        modCount++;
+        size++;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * Only the elements on the shorter side of index are moved
+     *
+     * @param index index at which the element is to be inserted
+     * @param e     element to be inserted
+     * @return true if the element was added successfully
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public boolean add(int index, E e) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (size == elementData.length) {
+            grow();
+        }
+        if (index < size - index) {
+            head = head == 0 ? elementData.length - 1 : head - 1;
+            for (int i = 0; i < index; i++) {
+                elementData[physical(i)] = elementData[physical(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                elementData[physical(i)] = elementData[physical(i - 1)];
+            }
+        }
+        elementData[physical(index)] = e;
+        modCount++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return (E) elementData[physical(index)];
+    }
+
+    /**
+     * Replaces the element at the specified position in this list
+     *
+     * @param index index of element to replace
+     * @param e     element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E set(int index, E e) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        int i = physical(index);
+        E oldValue = (E) elementData[i];
+        elementData[i] = e;
+        return oldValue;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Only the elements on the shorter side of index are moved, so removing the first element is O(1)
+     *
+     * @param index index of element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        E oldValue = (E) elementData[physical(index)];
+        if (index < size - 1 - index) {
+            for (int i = index; i > 0; i--) {
+                elementData[physical(i)] = elementData[physical(i - 1)];
+            }
+            elementData[head] = null;
+            head = physical(1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elementData[physical(i)] = elementData[physical(i + 1)];
+            }
+            elementData[physical(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        return oldValue;
+    }
+
+    /**
+     * Removes and returns the first element of this list in O(1)
+     *
+     * @return the element that was removed from the list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public E removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    /**
+     * Removes and returns the last element of this list in O(1)
+     *
+     * @return the element that was removed from the list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public E removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return remove(size - 1);
+    }
+
+    /**
+     * Removes all elements from this list
+     */
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        int end = head + size;
+        if (end <= elementData.length) {
+            Arrays.fill(elementData, head, end, null);
+        } else {
+            Arrays.fill(elementData, head, elementData.length, null);
+            Arrays.fill(elementData, 0, end - elementData.length, null);
+        }
+        head = 0;
+        modCount++;
+        size = 0;
+    }
+
+    /**
+     * Maps a list index to its position in elementData
+     */
+    private int physical(int index) {
+        int i = head + index;
+        return i >= elementData.length ? i - elementData.length : i;
+    }
+
+    /**
+     * Increases the capacity of the buffer and moves the head back to position 0
+     */
+    private void grow() {
+        if (size == MyArrayList.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        Object[] newData = new Object[MyArrayList.newCapacity(growthPolicy, elementData.length, size + 1)];
+        int firstPart = Math.min(size, elementData.length - head);
+        System.arraycopy(elementData, head, newData, 0, firstPart);
+        System.arraycopy(elementData, 0, newData, firstPart, size - firstPart);
+        elementData = newData;
+        head = 0;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list
+     *
+     * @return an Iterator over the elements
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Iterator implementation for CircularArrayList
+     */
+    private class Itr implements Iterator<E> {
+        private int cursor;
+        private int lastRet = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            return (E) elementData[physical(lastRet = i)];
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException("No element to remove");
+            }
+            checkForComodification();
+            try {
+                CircularArrayList.this.remove(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            } catch (IndexOutOfBoundsException ex) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.learning.list;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Declares how a {@link ColumnarList} splits records of type R into columns and how it
+ * rebuilds a record from a row. Each column has a name, a type and a getter; primitive
+ * columns are stored in primitive arrays, so reading them never unboxes.
+ *
+ * @param <R> the record type
+ */
+public final class ColumnSchema<R> {
+    /**
+     * Storage type of a column
+     */
+    public enum Type {
+        INT, LONG, DOUBLE, OBJECT
+    }
+
+    private final Column<R>[] columns;
+    private final Map<String, Integer> indexes;
+    private final Function<? super ColumnarList.Row, ? extends R> factory;
+
+    /**
+     * Constructs a schema from its columns and a factory that rebuilds a record from a row
+     *
+     * @param factory rebuilds a record from the values of one row
+     * @param columns the columns in storage order
+     * @throws IllegalArgumentException if there are no columns or two columns share a name
+     * @throws NullPointerException     if factory or a column is null
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public ColumnSchema(Function<? super ColumnarList.Row, ? extends R> factory, Column<R>... columns) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("Schema has no columns");
+        }
+        this.factory = Objects.requireNonNull(factory);
+        this.columns = Arrays.copyOf(columns, columns.length);
+        this.indexes = new HashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+            if (indexes.put(columns[i].name, i) != null) {
+                throw new IllegalArgumentException("Duplicate column " + columns[i].name);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of columns
+     *
+     * @return the number of columns
+     */
+    public int columnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Returns the position of the column with the given name
+     *
+     * @param name the column name
+     * @return the column index
+     * @throws IllegalArgumentException if there is no such column
+     */
+    public int indexOf(String name) {
+        Integer index = indexes.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown column " + name);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the name of the column at the given position
+     *
+     * @param column the column index
+     * @return the column name
+     * @throws IndexOutOfBoundsException if column is out of range
+     */
+    public String name(int column) {
+        return column(column).name;
+    }
+
+    /**
+     * Returns the type of the column at the given position
+     *
+     * @param column the column index
+     * @return the column type
+     * @throws IndexOutOfBoundsException if column is out of range
+     */
+    public Type type(int column) {
+        return column(column).type;
+    }
+
+    Column<R> column(int column) {
+        if (column < 0 || column >= columns.length) {
+            throw new IndexOutOfBoundsException("Invalid column");
+        }
+        return columns[column];
+    }
+
+    R create(ColumnarList.Row row) {
+        return factory.apply(row);
+    }
+
+    /**
+     * Column declaration: a name, a storage type and the getter that reads the value from a record
+     *
+     * @param <R> the record type
+     */
+    public static final class Column<R> {
+        final String name;
+        final Type type;
+        final ToIntFunction<? super R> intGetter;
+        final ToLongFunction<? super R> longGetter;
+        final ToDoubleFunction<? super R> doubleGetter;
+        final Function<? super R, ?> objectGetter;
+
+        private Column(String name, Type type, ToIntFunction<? super R> intGetter, ToLongFunction<? super R> longGetter,
+                       ToDoubleFunction<? super R> doubleGetter, Function<? super R, ?> objectGetter) {
+            this.name = Objects.requireNonNull(name);
+            this.type = type;
+            this.intGetter = intGetter;
+            this.longGetter = longGetter;
+            this.doubleGetter = doubleGetter;
+            this.objectGetter = objectGetter;
+        }
+
+        /**
+         * Declares a column stored in an int[]
+         *
+         * @param name   the column name
+         * @param getter reads the value from a record
+         * @param <R>    the record type
+         * @return the column declaration
+         */
+        public static <R> Column<R> ofInt(String name, ToIntFunction<? super R> getter) {
+            return new Column<>(name, Type.INT, Objects.requireNonNull(getter), null, null, null);
+        }
+
+        /**
+         * Declares a column stored in a long[]
+         *
+         * @param name   the column name
+         * @param getter reads the value from a record
+         * @param <R>    the record type
+         * @return the column declaration
+         */
+        public static <R> Column<R> ofLong(String name, ToLongFunction<? super R> getter) {
+            return new Column<>(name, Type.LONG, null, Objects.requireNonNull(getter), null, null);
+        }
+
+        /**
+         * Declares a column stored in a double[]
+         *
+         * @param name   the column name
+         * @param getter reads the value from a record
+         * @param <R>    the record type
+         * @return the column declaration
+         */
+        public static <R> Column<R> ofDouble(String name, ToDoubleFunction<? super R> getter) {
+            return new Column<>(name, Type.DOUBLE, null, null, Objects.requireNonNull(getter), null);
+        }
+
+        /**
+         * Declares a column stored in an Object[]
+         *
+         * @param name   the column name
+         * @param getter reads the value from a record
+         * @param <R>    the record type
+         * @return the column declaration
+         */
+        public static <R> Column<R> ofObject(String name, Function<? super R, ?> getter) {
+            return new Column<>(name, Type.OBJECT, null, null, null, Objects.requireNonNull(getter));
+        }
+    }
+}
@@ -0,0 +1,566 @@
+package com.learning.list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A list of records stored column by column (struct of arrays).
+ * <p>
+ * Every record is split by a {@link ColumnSchema} into one int[], long[], double[] or Object[]
+ * per column. All columns share one capacity and grow together, using the same
+ * {@link GrowthPolicy} rules as {@link MyArrayList}. Row operations touch every column;
+ * column scans and aggregates read a single array sequentially.
+ *
+ * @param <R> the record type
+ */
+public class ColumnarList<R> implements Iterable<R> {
+    /**
+     * Default initial capacity of the columns
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final ColumnSchema<R> schema;
+    private final GrowthPolicy growthPolicy;
+    /**
+     * One array per column, typed by the column: int[], long[], double[] or Object[]
+     */
+    private final Object[] columns;
+    /**
+     * Length of every column array
+     */
+    private int capacity;
+    private int size = 0;
+    private int modCount = 0;
+
+    /**
+     * Constructs an empty list with default initial capacity
+     *
+     * @param schema the columns of the list
+     * @throws NullPointerException if schema is null
+     */
+    public ColumnarList(ColumnSchema<R> schema) {
+        this(schema, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity
+     *
+     * @param schema   the columns of the list
+     * @param capacity the initial capacity of every column
+     * @throws IllegalArgumentException if capacity is negative or too large
+     * @throws NullPointerException     if schema is null
+     */
+    public ColumnarList(ColumnSchema<R> schema, int capacity) {
+        this(schema, capacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity and growth policy
+     *
+     * @param schema       the columns of the list
+     * @param capacity     the initial capacity of every column
+     * @param growthPolicy the policy used to grow the columns when they are full
+     * @throws IllegalArgumentException if capacity is negative or too large
+     * @throws NullPointerException     if schema or growthPolicy is null
+     */
+    public ColumnarList(ColumnSchema<R> schema, int capacity, GrowthPolicy growthPolicy) {
+        if (capacity < 0 || capacity > MyArrayList.MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Invalid array capacity");
+        }
+        this.schema = Objects.requireNonNull(schema);
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+        this.columns = new Object[schema.columnCount()];
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = newColumn(schema.type(c), capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the schema of this list
+     *
+     * @return the schema
+     */
+    public ColumnSchema<R> schema() {
+        return schema;
+    }
+
+    /**
+     * Returns the number of rows in this list
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains no rows
+     *
+     * @return true if this list contains no rows
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Splits the record into its columns and appends it as a new row
+     *
+     * @param record record to be appended
+     * @return true if the record was added successfully
+     * @throws NullPointerException if record is null
+     */
+    public boolean add(R record) {
+        Objects.requireNonNull(record);
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        int row = size;
+        for (int c = 0; c < columns.length; c++) {
+            ColumnSchema.Column<R> column = schema.column(c);
+            switch (column.type) {
+                case INT:
+                    ((int[]) columns[c])[row] = column.intGetter.applyAsInt(record);
+                    break;
+                case LONG:
+                    ((long[]) columns[c])[row] = column.longGetter.applyAsLong(record);
+                    break;
+                case DOUBLE:
+                    ((double[]) columns[c])[row] = column.doubleGetter.applyAsDouble(record);
+                    break;
+                default:
+                    ((Object[]) columns[c])[row] = column.objectGetter.apply(record);
+            }
+        }
+        modCount++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Rebuilds the record stored in the specified row
+     *
+     * @param index index of the row
+     * @return a new record built by the schema from the row
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public R get(int index) {
+        checkIndex(index);
+        return schema.create(new Row(this, index));
+    }
+
+    /**
+     * Removes the specified row, shifting the following rows of every column
+     *
+     * @param index index of the row to be removed
+     * @return the record that was stored in the row
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public R remove(int index) {
+        checkIndex(index);
+        R oldValue = schema.create(new Row(this, index));
+        int numMoved = size - index - 1;
+        for (Object column : columns) {
+            System.arraycopy(column, index + 1, column, index, numMoved);
+        }
+        size--;
+        for (int c = 0; c < columns.length; c++) {
+            if (schema.type(c) == ColumnSchema.Type.OBJECT) {
+                ((Object[]) columns[c])[size] = null;
+            }
+        }
+        modCount++;
+        return oldValue;
+    }
+
+    /**
+     * Removes all rows from this list
+     */
+    public void clear() {
+        for (int c = 0; c < columns.length; c++) {
+            if (schema.type(c) == ColumnSchema.Type.OBJECT) {
+                Arrays.fill((Object[]) columns[c], 0, size, null);
+            }
+        }
+        if (size != 0) {
+            modCount++;
+            size = 0;
+        }
+    }
+
+    /**
+     * Returns the int value of a column in a row
+     *
+     * @param index  index of the row
+     * @param column index of an INT column
+     * @return the value
+     * @throws IndexOutOfBoundsException if index or column is out of range
+     * @throws IllegalArgumentException  if the column is not an INT column
+     */
+    public int getInt(int index, int column) {
+        checkIndex(index);
+        return intColumn(column)[index];
+    }
+
+    /**
+     * Returns the long value of a column in a row
+     *
+     * @param index  index of the row
+     * @param column index of a LONG column
+     * @return the value
+     * @throws IndexOutOfBoundsException if index or column is out of range
+     * @throws IllegalArgumentException  if the column is not a LONG column
+     */
+    public long getLong(int index, int column) {
+        checkIndex(index);
+        return longColumn(column)[index];
+    }
+
+    /**
+     * Returns the double value of a column in a row
+     *
+     * @param index  index of the row
+     * @param column index of a DOUBLE column
+     * @return the value
+     * @throws IndexOutOfBoundsException if index or column is out of range
+     * @throws IllegalArgumentException  if the column is not a DOUBLE column
+     */
+    public double getDouble(int index, int column) {
+        checkIndex(index);
+        return doubleColumn(column)[index];
+    }
+
+    /**
+     * Returns the object value of a column in a row
+     *
+     * @param index  index of the row
+     * @param column index of an OBJECT column
+     * @return the value
+     * @throws IndexOutOfBoundsException if index or column is out of range
+     * @throws IllegalArgumentException  if the column is not an OBJECT column
+     */
+    public Object getObject(int index, int column) {
+        checkIndex(index);
+        return objectColumn(column)[index];
+    }
+
+    /**
+     * Passes every value of an INT column to the action in row order
+     *
+     * @param column index of an INT column
+     * @param action the action to be performed for each value
+     * @throws ConcurrentModificationException if the list was structurally modified by the action
+     */
+    public void forEachInt(int column, IntConsumer action) {
+        Objects.requireNonNull(action);
+        final int[] values = intColumn(column);
+        final int expectedModCount = modCount;
+        final int end = size;
+        for (int i = 0; i < end && modCount == expectedModCount; i++) {
+            action.accept(values[i]);
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Passes every value of a LONG column to the action in row order
+     *
+     * @param column index of a LONG column
+     * @param action the action to be performed for each value
+     * @throws ConcurrentModificationException if the list was structurally modified by the action
+     */
+    public void forEachLong(int column, LongConsumer action) {
+        Objects.requireNonNull(action);
+        final long[] values = longColumn(column);
+        final int expectedModCount = modCount;
+        final int end = size;
+        for (int i = 0; i < end && modCount == expectedModCount; i++) {
+            action.accept(values[i]);
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Passes every value of a DOUBLE column to the action in row order
+     *
+     * @param column index of a DOUBLE column
+     * @param action the action to be performed for each value
+     * @throws ConcurrentModificationException if the list was structurally modified by the action
+     */
+    public void forEachDouble(int column, DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        final double[] values = doubleColumn(column);
+        final int expectedModCount = modCount;
+        final int end = size;
+        for (int i = 0; i < end && modCount == expectedModCount; i++) {
+            action.accept(values[i]);
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Passes every value of an OBJECT column to the action in row order
+     *
+     * @param column index of an OBJECT column
+     * @param action the action to be performed for each value
+     * @throws ConcurrentModificationException if the list was structurally modified by the action
+     */
+    public void forEachObject(int column, Consumer<Object> action) {
+        Objects.requireNonNull(action);
+        final Object[] values = objectColumn(column);
+        final int expectedModCount = modCount;
+        final int end = size;
+        for (int i = 0; i < end && modCount == expectedModCount; i++) {
+            action.accept(values[i]);
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Returns the sum of an INT column
+     *
+     * @param column index of an INT column
+     * @return the sum of all values, without int overflow
+     */
+    public long sumInt(int column) {
+        final int[] values = intColumn(column);
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the sum of a LONG column
+     *
+     * @param column index of a LONG column
+     * @return the sum of all values
+     */
+    public long sumLong(int column) {
+        final long[] values = longColumn(column);
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the sum of a DOUBLE column
+     *
+     * @param column index of a DOUBLE column
+     * @return the sum of all values
+     */
+    public double sumDouble(int column) {
+        final double[] values = doubleColumn(column);
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Copies an INT column into a new list
+     *
+     * @param column index of an INT column
+     * @return the values of the column in row order
+     */
+    public IntArrayList projectInt(int column) {
+        return new IntArrayList(Arrays.copyOf(intColumn(column), size));
+    }
+
+    /**
+     * Copies a LONG column into a new list
+     *
+     * @param column index of a LONG column
+     * @return the values of the column in row order
+     */
+    public LongArrayList projectLong(int column) {
+        return new LongArrayList(Arrays.copyOf(longColumn(column), size));
+    }
+
+    /**
+     * Copies a DOUBLE column into a new list
+     *
+     * @param column index of a DOUBLE column
+     * @return the values of the column in row order
+     */
+    public DoubleArrayList projectDouble(int column) {
+        return new DoubleArrayList(Arrays.copyOf(doubleColumn(column), size));
+    }
+
+    /**
+     * Copies an OBJECT column into a new list
+     *
+     * @param column index of an OBJECT column
+     * @param <T>    the type of the column values
+     * @return the values of the column in row order
+     */
+    public <T> MyArrayList<T> projectObject(int column) {
+        return new MyArrayList<>(Arrays.copyOf(objectColumn(column), size));
+    }
+
+    /**
+     * Returns an iterator that rebuilds the records row by row
+     *
+     * @return an Iterator over the records
+     */
+    @Override
+    public Iterator<R> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor != size;
+            }
+
+            @Override
+            public R next() {
+                checkForComodification(expectedModCount);
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return schema.create(new Row(ColumnarList.this, cursor++));
+            }
+        };
+    }
+
+    /**
+     * Grows every column to the capacity proposed by the growth policy, or to minCapacity if that is larger
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity > MyArrayList.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        int newCapacity = MyArrayList.newCapacity(growthPolicy, capacity, minCapacity);
+        for (int c = 0; c < columns.length; c++) {
+            Object column = columns[c];
+            switch (schema.type(c)) {
+                case INT:
+                    columns[c] = Arrays.copyOf((int[]) column, newCapacity);
+                    break;
+                case LONG:
+                    columns[c] = Arrays.copyOf((long[]) column, newCapacity);
+                    break;
+                case DOUBLE:
+                    columns[c] = Arrays.copyOf((double[]) column, newCapacity);
+                    break;
+                default:
+                    columns[c] = Arrays.copyOf((Object[]) column, newCapacity);
+            }
+        }
+        capacity = newCapacity;
+    }
+
+    private static Object newColumn(ColumnSchema.Type type, int capacity) {
+        switch (type) {
+            case INT:
+                return new int[capacity];
+            case LONG:
+                return new long[capacity];
+            case DOUBLE:
+                return new double[capacity];
+            default:
+                return new Object[capacity];
+        }
+    }
+
+    private int[] intColumn(int column) {
+        return (int[]) typedColumn(column, ColumnSchema.Type.INT);
+    }
+
+    private long[] longColumn(int column) {
+        return (long[]) typedColumn(column, ColumnSchema.Type.LONG);
+    }
+
+    private double[] doubleColumn(int column) {
+        return (double[]) typedColumn(column, ColumnSchema.Type.DOUBLE);
+    }
+
+    private Object[] objectColumn(int column) {
+        return (Object[]) typedColumn(column, ColumnSchema.Type.OBJECT);
+    }
+
+    private Object typedColumn(int column, ColumnSchema.Type type) {
+        if (schema.type(column) != type) {
+            throw new IllegalArgumentException("Column " + schema.name(column) + " is not of type " + type);
+        }
+        return columns[column];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+    }
+
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Read access to the values of one row, passed to the schema's record factory
+     */
+    public static final class Row {
+        private final ColumnarList<?> list;
+        private final int index;
+
+        private Row(ColumnarList<?> list, int index) {
+            this.list = list;
+            this.index = index;
+        }
+
+        /**
+         * Returns the value of an INT column in this row
+         *
+         * @param column index of an INT column
+         * @return the value
+         */
+        public int getInt(int column) {
+            return list.intColumn(column)[index];
+        }
+
+        /**
+         * Returns the value of a LONG column in this row
+         *
+         * @param column index of a LONG column
+         * @return the value
+         */
+        public long getLong(int column) {
+            return list.longColumn(column)[index];
+        }
+
+        /**
+         * Returns the value of a DOUBLE column in this row
+         *
+         * @param column index of a DOUBLE column
+         * @return the value
+         */
+        public double getDouble(int column) {
+            return list.doubleColumn(column)[index];
+        }
+
+        /**
+         * Returns the value of an OBJECT column in this row
+         *
+         * @param column index of an OBJECT column
+         * @return the value
+         */
+        public Object getObject(int column) {
+            return list.objectColumn(column)[index];
+        }
+    }
+}
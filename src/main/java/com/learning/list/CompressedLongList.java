@@ -0,0 +1,293 @@
+package com.learning.list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/**
+ * An append-only list of longs stored as delta + varint encoded blocks.
+ * <p>
+ * Every block of 128 values keeps its first value raw in {@code blockBase}; the other values are
+ * stored as zigzag varint deltas to their predecessor in a shared byte array. Monotonic IDs with
+ * small gaps take one or two bytes per value instead of the 8 of a long[] or the ~20 of a boxed
+ * Long in {@link MyArrayList}. Any long sequence is accepted; unsorted data just compresses less.
+ * <p>
+ * Sequential iteration decodes each byte once. Random access jumps to the block of the index and
+ * decodes at most 127 deltas inside it.
+ */
+public class CompressedLongList implements Iterable<Long> {
+    /**
+     * Number of index bits addressing a value inside a block (128 values per block)
+     */
+    private static final int BLOCK_SHIFT = 7;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+    /**
+     * Default initial capacity of the byte array
+     */
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * Encoded deltas of all blocks
+     */
+    private byte[] data;
+    /**
+     * Number of bytes in use in data
+     */
+    private int dataSize = 0;
+    /**
+     * First value of each block
+     */
+    private long[] blockBase;
+    /**
+     * Offset in data of the first delta of each block
+     */
+    private int[] blockOffset;
+    /**
+     * The last appended value, the base of the next delta
+     */
+    private long last;
+    private int size = 0;
+    private int modCount = 0;
+
+    /**
+     * Constructs an empty list
+     */
+    public CompressedLongList() {
+        this.data = new byte[DEFAULT_CAPACITY];
+        this.blockBase = new long[1];
+        this.blockOffset = new int[1];
+    }
+
+    /**
+     * Returns a compressed copy of the given list
+     *
+     * @param values the values to be compressed, in order
+     * @return a new compressed list
+     * @throws NullPointerException if values is null
+     */
+    public static CompressedLongList from(LongArrayList values) {
+        CompressedLongList list = new CompressedLongList();
+        PrimitiveIterator.OfLong it = values.iterator();
+        while (it.hasNext()) {
+            list.add(it.nextLong());
+        }
+        list.trimToSize();
+        return list;
+    }
+
+    /**
+     * Returns the number of values in this list
+     *
+     * @return the number of values in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains no values
+     *
+     * @return true if this list contains no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends the specified value to the end of this list
+     *
+     * @param value value to be appended
+     * @return true if the value was added successfully
+     */
+    public boolean add(long value) {
+        if (size == MyArrayList.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        if ((size & BLOCK_MASK) == 0) {
+            int block = size >>> BLOCK_SHIFT;
+            if (block == blockBase.length) {
+                int newLength = MyArrayList.newCapacity(GrowthPolicy.DEFAULT, blockBase.length, block + 1);
+                blockBase = Arrays.copyOf(blockBase, newLength);
+                blockOffset = Arrays.copyOf(blockOffset, newLength);
+            }
+            blockBase[block] = value;
+            blockOffset[block] = dataSize;
+        } else {
+            writeVarLong(zigzag(value - last));
+        }
+        last = value;
+        modCount++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns the value at the specified position, decoding only inside its block
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        int block = index >>> BLOCK_SHIFT;
+        long value = blockBase[block];
+        int pos = blockOffset[block];
+        final byte[] bytes = data;
+        for (int n = index & BLOCK_MASK; n > 0; n--) {
+            long encoded = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[pos++];
+                encoded |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            value += unzigzag(encoded);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of bytes held by the encoded data and block index,
+     * not counting the object headers
+     *
+     * @return the size of the backing arrays in bytes
+     */
+    public long sizeInBytes() {
+        return data.length + (long) blockBase.length * Long.BYTES + (long) blockOffset.length * Integer.BYTES;
+    }
+
+    /**
+     * Trims the backing arrays to the data in use
+     */
+    public void trimToSize() {
+        int blocks = (size + BLOCK_MASK) >>> BLOCK_SHIFT;
+        if (dataSize < data.length) {
+            data = Arrays.copyOf(data, dataSize);
+        }
+        if (blocks < blockBase.length) {
+            blockBase = Arrays.copyOf(blockBase, blocks);
+            blockOffset = Arrays.copyOf(blockOffset, blocks);
+        }
+    }
+
+    /**
+     * Removes all values from this list
+     */
+    public void clear() {
+        if (size != 0) {
+            modCount++;
+            size = 0;
+            dataSize = 0;
+        }
+    }
+
+    /**
+     * Decodes a copy of the values into a LongArrayList
+     *
+     * @return a new list with the values of this list
+     */
+    public LongArrayList toLongArrayList() {
+        LongArrayList list = new LongArrayList(size);
+        forEachLong(list::add);
+        return list;
+    }
+
+    /**
+     * Performs the given action for each value in order, decoding every byte once
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException            if the specified action is null
+     * @throws ConcurrentModificationException if the list was modified by the action
+     */
+    public void forEachLong(LongConsumer action) {
+        Objects.requireNonNull(action);
+        PrimitiveIterator.OfLong it = iterator();
+        while (it.hasNext()) {
+            action.accept(it.nextLong());
+        }
+    }
+
+    /**
+     * Returns an iterator that decodes the values sequentially.
+     * Use {@link PrimitiveIterator.OfLong#nextLong()} to read values without boxing
+     *
+     * @return a primitive iterator over the values
+     */
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new Itr();
+    }
+
+    private void writeVarLong(long v) {
+        if (dataSize + 10 > data.length) {
+            if (dataSize > MyArrayList.MAX_ARRAY_SIZE - 10) {
+                throw new OutOfMemoryError("Required array size too large");
+            }
+            data = Arrays.copyOf(data, MyArrayList.newCapacity(GrowthPolicy.DEFAULT, data.length, dataSize + 10));
+        }
+        while ((v & ~0x7FL) != 0) {
+            data[dataSize++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        data[dataSize++] = (byte) v;
+    }
+
+    private static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    private static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    /**
+     * Sequential decoder: reads the raw base at each block start and one varint otherwise
+     */
+    private class Itr implements PrimitiveIterator.OfLong {
+        private int cursor;
+        private int pos;
+        private long value;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public long nextLong() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            if ((i & BLOCK_MASK) == 0) {
+                int block = i >>> BLOCK_SHIFT;
+                value = blockBase[block];
+                pos = blockOffset[block];
+            } else {
+                long encoded = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[pos++];
+                    encoded |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                value += unzigzag(encoded);
+            }
+            cursor = i + 1;
+            return value;
+        }
+    }
+}
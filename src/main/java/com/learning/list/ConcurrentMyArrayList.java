@@ -0,0 +1,262 @@
+package com.learning.list;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe variant of {@link MyArrayList} guarded by a {@link StampedLock}.
+ * Mutations take the write lock. get, size and isEmpty first try an optimistic read
+ * and only fall back to the read lock when a writer got in the way, so read-mostly
+ * workloads do not queue behind each other.
+ * <p>
+ * The lock is not reentrant: actions passed to this list must not call back into it
+ * while a lock is held. Iteration works on a snapshot and never throws
+ * {@link java.util.ConcurrentModificationException}.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class ConcurrentMyArrayList<E> implements Iterable<E> {
+    /**
+     * The list holding the elements, accessed only through the lock
+     */
+    private final MyArrayList<E> delegate;
+    /**
+     * Lock guarding the delegate
+     */
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * Constructs an empty list with default initial capacity
+     */
+    public ConcurrentMyArrayList() {
+        delegate = new MyArrayList<>();
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity
+     *
+     * @param capacity the initial capacity of the list
+     * @throws IllegalArgumentException if capacity is negative or too large
+     */
+    public ConcurrentMyArrayList(int capacity) {
+        delegate = new MyArrayList<>(capacity);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity and growth policy
+     *
+     * @param capacity     the initial capacity of the list
+     * @param growthPolicy the policy used to grow the array when it is full
+     * @throws IllegalArgumentException if capacity is negative or too large
+     * @throws NullPointerException     if growthPolicy is null
+     */
+    public ConcurrentMyArrayList(int capacity, GrowthPolicy growthPolicy) {
+        delegate = new MyArrayList<>(capacity, growthPolicy);
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int size = delegate.size();
+        if (lock.validate(stamp)) {
+            return size;
+        }
+        stamp = lock.readLock();
+        try {
+            return delegate.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns true if this list contains no elements
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     * The optimistic read may observe a list in the middle of a mutation; its result
+     * is only used when the stamp is still valid afterwards
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                E e = delegate.get(index);
+                if (lock.validate(stamp)) {
+                    return e;
+                }
+            } catch (IndexOutOfBoundsException ex) {
+                if (lock.validate(stamp)) {
+                    throw ex;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return delegate.get(index);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Appends the specified element to the end of this list
+     *
+     * @param e element to be appended to this list
+     * @return true if the element was added successfully
+     */
+    public boolean add(E e) {
+        long stamp = lock.writeLock();
+        try {
+            return delegate.add(e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list
+     *
+     * @param index index at which the element is to be inserted
+     * @param e     element to be inserted
+     * @return true if the element was added successfully
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public boolean add(int index, E e) {
+        long stamp = lock.writeLock();
+        try {
+            delegate.add(index, e);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Appends all elements of the specified collection to the end of this list as one atomic step
+     *
+     * @param c collection containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] a = c.toArray();
+        long stamp = lock.writeLock();
+        try {
+            return delegate.addAll((E[]) a);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in this list
+     *
+     * @param index index of element to replace
+     * @param e     element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E set(int index, E e) {
+        long stamp = lock.writeLock();
+        try {
+            return delegate.set(index, e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in this list
+     *
+     * @param index index of element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            return delegate.remove(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all elements from this list
+     */
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            delegate.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns a copy of the current contents of this list
+     *
+     * @return a new MyArrayList containing the elements of this list
+     */
+    public MyArrayList<E> snapshot() {
+        long stamp = lock.readLock();
+        try {
+            MyArrayList<E> copy = new MyArrayList<>(delegate.size());
+            copy.addAll(delegate);
+            return copy;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Performs the given action for each element of a snapshot of this list.
+     * The action may safely modify this list
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the specified action is null
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        snapshot().forEach(action);
+    }
+
+    /**
+     * Returns an iterator over a snapshot of this list.
+     * It never throws ConcurrentModificationException and does not support remove
+     *
+     * @return an Iterator over the elements of a snapshot
+     */
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<E> it = snapshot().iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return it.next();
+            }
+        };
+    }
+}
@@ -0,0 +1,265 @@
+package com.learning.list;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A copy-on-write variant of {@link MyArrayList} for lists that are read far more often than changed.
+ * Every mutation publishes a new array through a volatile reference, so readers never lock and
+ * always see an immutable snapshot. Iterators never throw
+ * {@link java.util.ConcurrentModificationException}.
+ * <p>
+ * Single mutations copy the whole array. Use {@link #update(Consumer)} or {@link #addAll(Collection)}
+ * to apply many changes with a constant number of copies.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class CopyOnWriteMyArrayList<E> implements Iterable<E> {
+    /**
+     * Lock serializing writers
+     */
+    private final Object lock = new Object();
+    /**
+     * The published snapshot, its length is the size of the list
+     */
+    private volatile Object[] array;
+
+    /**
+     * Constructs an empty list
+     */
+    public CopyOnWriteMyArrayList() {
+        array = new Object[0];
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return array.length;
+    }
+
+    /**
+     * Returns true if this list contains no elements
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E get(int index) {
+        Object[] a = array;
+        if (index < 0 || index >= a.length) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return (E) a[index];
+    }
+
+    /**
+     * Appends the specified element to the end of this list
+     *
+     * @param e element to be appended to this list
+     * @return true if the element was added successfully
+     */
+    public boolean add(E e) {
+        synchronized (lock) {
+            Object[] a = array;
+            Object[] newArray = Arrays.copyOf(a, a.length + 1);
+            newArray[a.length] = e;
+            array = newArray;
+            return true;
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list
+     *
+     * @param index index at which the element is to be inserted
+     * @param e     element to be inserted
+     * @return true if the element was added successfully
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public boolean add(int index, E e) {
+        synchronized (lock) {
+            Object[] a = array;
+            if (index < 0 || index > a.length) {
+                throw new IndexOutOfBoundsException("Invalid index");
+            }
+            Object[] newArray = new Object[a.length + 1];
+            System.arraycopy(a, 0, newArray, 0, index);
+            System.arraycopy(a, index, newArray, index + 1, a.length - index);
+            newArray[index] = e;
+            array = newArray;
+            return true;
+        }
+    }
+
+    /**
+     * Appends all elements of the specified collection to the end of this list with a single copy
+     *
+     * @param c collection containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] added = c.toArray();
+        if (added.length == 0) {
+            return false;
+        }
+        synchronized (lock) {
+            Object[] a = array;
+            Object[] newArray = Arrays.copyOf(a, a.length + added.length);
+            System.arraycopy(added, 0, newArray, a.length, added.length);
+            array = newArray;
+            return true;
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in this list
+     *
+     * @param index index of element to replace
+     * @param e     element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E set(int index, E e) {
+        synchronized (lock) {
+            Object[] a = array;
+            if (index < 0 || index >= a.length) {
+                throw new IndexOutOfBoundsException("Invalid index");
+            }
+            E oldValue = (E) a[index];
+            Object[] newArray = a.clone();
+            newArray[index] = e;
+            array = newArray;
+            return oldValue;
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in this list
+     *
+     * @param index index of element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E remove(int index) {
+        synchronized (lock) {
+            Object[] a = array;
+            if (index < 0 || index >= a.length) {
+                throw new IndexOutOfBoundsException("Invalid index");
+            }
+            E oldValue = (E) a[index];
+            Object[] newArray = new Object[a.length - 1];
+            System.arraycopy(a, 0, newArray, 0, index);
+            System.arraycopy(a, index + 1, newArray, index, a.length - index - 1);
+            array = newArray;
+            return oldValue;
+        }
+    }
+
+    /**
+     * Removes all elements from this list
+     */
+    public void clear() {
+        synchronized (lock) {
+            array = new Object[0];
+        }
+    }
+
+    /**
+     * Applies a batch of mutations and publishes the result as one snapshot.
+     * The mutation works on a private MyArrayList copy of the current contents, so the batch
+     * costs at most two array copies no matter how many elements it changes. Readers see either
+     * the list before the batch or after it. If the mutation throws, nothing is published
+     *
+     * @param mutation the changes to apply
+     * @throws NullPointerException if the specified mutation is null
+     */
+    public void update(Consumer<? super MyArrayList<E>> mutation) {
+        Objects.requireNonNull(mutation);
+        synchronized (lock) {
+            Object[] a = array;
+            MyArrayList<E> working = new MyArrayList<>(a.length);
+            working.addAll((E[]) a);
+            mutation.accept(working);
+            array = working.trimmedElementData();
+        }
+    }
+
+    /**
+     * Returns a copy of the current snapshot
+     *
+     * @return a new MyArrayList containing the elements of this list
+     */
+    public MyArrayList<E> snapshot() {
+        Object[] a = array;
+        MyArrayList<E> copy = new MyArrayList<>(a.length);
+        copy.addAll((E[]) a);
+        return copy;
+    }
+
+    /**
+     * Performs the given action for each element of the current snapshot
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the specified action is null
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Object e : array) {
+            action.accept((E) e);
+        }
+    }
+
+    /**
+     * Returns an iterator over the snapshot taken when this method is called.
+     * It never throws ConcurrentModificationException and does not support remove
+     *
+     * @return an Iterator over the elements of the current snapshot
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SnapshotItr(array);
+    }
+
+    /**
+     * Iterator over an immutable snapshot array
+     */
+    private class SnapshotItr implements Iterator<E> {
+        private final Object[] snapshot;
+        private int cursor;
+
+        private SnapshotItr(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < snapshot.length;
+        }
+
+        @Override
+        public E next() {
+            if (cursor >= snapshot.length) {
+                throw new NoSuchElementException();
+            }
+            return (E) snapshot[cursor++];
+        }
+    }
+}
@@ -0,0 +1,475 @@
+package com.learning.list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A list for low-cardinality values that stores each element as a small code into a dictionary.
+ * <p>
+ * Every distinct value is kept once in the dictionary; the list itself is an array of codes
+ * that is only as wide as the dictionary needs: one byte per element for up to 256 distinct
+ * values, two bytes for up to 65536, four bytes beyond that. With compressed oops a reference
+ * costs four bytes, so the saving per element is 4x or 2x while the dictionary stays small,
+ * in exchange for the fixed cost of the dictionary and its HashMap. The code array is widened
+ * in one pass when the dictionary outgrows the current width.
+ * <p>
+ * Searches compare codes: {@link #indexOf(Object)} and {@link #count(Object)} look the value
+ * up once and then scan the flat code array. Codes are assigned in order of first appearance
+ * and are never reclaimed, so the dictionary keeps values that no longer occur in the list
+ * until {@link #clear()}. Null is a valid value.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class DictionaryEncodedList<E> implements Iterable<E> {
+    /**
+     * Default initial capacity of the code array
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Codes while the dictionary has at most 256 entries, read as unsigned bytes
+     */
+    private byte[] byteCodes;
+    /**
+     * Codes while the dictionary has at most 65536 entries, read as unsigned shorts
+     */
+    private short[] shortCodes;
+    /**
+     * Codes of larger dictionaries
+     */
+    private int[] intCodes;
+    /**
+     * Width of a code in bytes: 1, 2 or 4. Only the array of that width is in use
+     */
+    private int width = 1;
+    /**
+     * Distinct values by code
+     */
+    private final MyArrayList<E> dictionary = new MyArrayList<>();
+    /**
+     * Code of each distinct value
+     */
+    private final Map<E, Integer> codeOf = new HashMap<>();
+    private int size = 0;
+    private int modCount = 0;
+
+    /**
+     * Constructs an empty list
+     */
+    public DictionaryEncodedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity of the code array
+     *
+     * @param capacity the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity is negative or too large
+     */
+    public DictionaryEncodedList(int capacity) {
+        if (capacity < 0 || capacity > MyArrayList.MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Invalid array capacity");
+        }
+        this.byteCodes = new byte[capacity];
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains no elements
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of distinct values in the dictionary
+     *
+     * @return the number of dictionary entries
+     */
+    public int dictionarySize() {
+        return dictionary.size();
+    }
+
+    /**
+     * Returns the number of bytes used to store one code: 1, 2 or 4
+     *
+     * @return the current code width in bytes
+     */
+    public int codeWidth() {
+        return width;
+    }
+
+    /**
+     * Appends the specified element to the end of this list
+     *
+     * @param e element to be appended
+     * @return true if the element was added successfully
+     */
+    public boolean add(E e) {
+        add(size, e);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param e     element to be inserted
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public void add(int index, E e) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (size == MyArrayList.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        int code = encode(e);
+        if (size == capacity()) {
+            grow(size + 1);
+        }
+        Object codes = codes();
+        System.arraycopy(codes, index, codes, index + 1, size - index);
+        store(index, code);
+        modCount++;
+        size++;
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E get(int index) {
+        return dictionary.get(code(index));
+    }
+
+    /**
+     * Returns the dictionary code of the element at the specified position
+     *
+     * @param index index of the element
+     * @return the code of the element
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int code(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return load(index);
+    }
+
+    /**
+     * Replaces the element at the specified position in this list
+     *
+     * @param index index of the element to replace
+     * @param e     element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E set(int index, E e) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        E oldValue = dictionary.get(load(index));
+        store(index, encode(e));
+        return oldValue;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Its value stays in the dictionary
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E remove(int index) {
+        E removed = dictionary.get(code(index));
+        Object codes = codes();
+        System.arraycopy(codes, index + 1, codes, index, size - index - 1);
+        modCount++;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     *
+     * @param o element to search for
+     * @return the index of the first occurrence, or -1 if the list does not contain it
+     */
+    public int indexOf(Object o) {
+        Integer code = codeOf.get(o);
+        if (code == null) {
+            return -1;
+        }
+        final int c = code;
+        switch (width) {
+            case 1:
+                for (int i = 0; i < size; i++) {
+                    if ((byteCodes[i] & 0xFF) == c) {
+                        return i;
+                    }
+                }
+                return -1;
+            case 2:
+                for (int i = 0; i < size; i++) {
+                    if ((shortCodes[i] & 0xFFFF) == c) {
+                        return i;
+                    }
+                }
+                return -1;
+            default:
+                for (int i = 0; i < size; i++) {
+                    if (intCodes[i] == c) {
+                        return i;
+                    }
+                }
+                return -1;
+        }
+    }
+
+    /**
+     * Returns true if this list contains the specified element
+     *
+     * @param o element whose presence is to be tested
+     * @return true if this list contains the specified element
+     */
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns the number of occurrences of the specified element
+     *
+     * @param o element to count
+     * @return the number of elements equal to o
+     */
+    public int count(Object o) {
+        Integer code = codeOf.get(o);
+        if (code == null) {
+            return 0;
+        }
+        final int c = code;
+        int count = 0;
+        switch (width) {
+            case 1:
+                for (int i = 0; i < size; i++) {
+                    if ((byteCodes[i] & 0xFF) == c) {
+                        count++;
+                    }
+                }
+                break;
+            case 2:
+                for (int i = 0; i < size; i++) {
+                    if ((shortCodes[i] & 0xFFFF) == c) {
+                        count++;
+                    }
+                }
+                break;
+            default:
+                for (int i = 0; i < size; i++) {
+                    if (intCodes[i] == c) {
+                        count++;
+                    }
+                }
+        }
+        return count;
+    }
+
+    /**
+     * Removes all elements and empties the dictionary. The code array keeps its capacity
+     * and returns to one byte per code
+     */
+    public void clear() {
+        if (width != 1) {
+            byteCodes = new byte[capacity()];
+            shortCodes = null;
+            intCodes = null;
+            width = 1;
+        }
+        dictionary.clear();
+        codeOf.clear();
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Decodes a copy of the elements into a MyArrayList
+     *
+     * @return a new list with the elements of this list
+     */
+    public MyArrayList<E> toMyArrayList() {
+        MyArrayList<E> list = new MyArrayList<>(size);
+        forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Performs the given action for each element in order
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException            if the specified action is null
+     * @throws ConcurrentModificationException if the list was modified by the action
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final int end = size;
+        for (int i = 0; i < end && modCount == expectedModCount; i++) {
+            action.accept(dictionary.get(load(i)));
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence
+     *
+     * @return an Iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        final int expectedModCount = modCount;
+        return new Iterator<>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return dictionary.get(load(cursor++));
+            }
+        };
+    }
+
+    /**
+     * Returns the code of the value, adding it to the dictionary on first appearance
+     * and widening the code array when the new code does not fit the current width
+     */
+    private int encode(E e) {
+        Integer code = codeOf.get(e);
+        if (code == null) {
+            code = dictionary.size();
+            if (code == 1 << 8 || code == 1 << 16) {
+                widen();
+            }
+            dictionary.add(e);
+            codeOf.put(e, code);
+        }
+        return code;
+    }
+
+    /**
+     * Copies the codes into an array of twice the current width
+     */
+    private void widen() {
+        if (width == 1) {
+            shortCodes = new short[byteCodes.length];
+            for (int i = 0; i < size; i++) {
+                shortCodes[i] = (short) (byteCodes[i] & 0xFF);
+            }
+            byteCodes = null;
+            width = 2;
+        } else {
+            intCodes = new int[shortCodes.length];
+            for (int i = 0; i < size; i++) {
+                intCodes[i] = shortCodes[i] & 0xFFFF;
+            }
+            shortCodes = null;
+            width = 4;
+        }
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = MyArrayList.newCapacity(GrowthPolicy.DEFAULT, capacity(), minCapacity);
+        switch (width) {
+            case 1:
+                byteCodes = Arrays.copyOf(byteCodes, newCapacity);
+                break;
+            case 2:
+                shortCodes = Arrays.copyOf(shortCodes, newCapacity);
+                break;
+            default:
+                intCodes = Arrays.copyOf(intCodes, newCapacity);
+        }
+    }
+
+    private int capacity() {
+        switch (width) {
+            case 1:
+                return byteCodes.length;
+            case 2:
+                return shortCodes.length;
+            default:
+                return intCodes.length;
+        }
+    }
+
+    /**
+     * Returns the code array in use, for arraycopy
+     */
+    private Object codes() {
+        switch (width) {
+            case 1:
+                return byteCodes;
+            case 2:
+                return shortCodes;
+            default:
+                return intCodes;
+        }
+    }
+
+    private int load(int index) {
+        switch (width) {
+            case 1:
+                return byteCodes[index] & 0xFF;
+            case 2:
+                return shortCodes[index] & 0xFFFF;
+            default:
+                return intCodes[index];
+        }
+    }
+
+    private void store(int index, int code) {
+        switch (width) {
+            case 1:
+                byteCodes[index] = (byte) code;
+                break;
+            case 2:
+                shortCodes[index] = (short) code;
+                break;
+            default:
+                intCodes[index] = code;
+        }
+    }
+}
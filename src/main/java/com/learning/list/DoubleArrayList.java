@@ -0,0 +1,451 @@
+package com.learning.list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+/**
+ * A double-specialized counterpart of {@link MyArrayList}.
+ * Elements are stored in a {@code double[]} so they are never boxed.
+ */
+public class DoubleArrayList implements Iterable<Double> {
+    /**
+     * Default initial capacity of the list
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Number of source elements filterInto scans per step, and the most it reserves in the target
+     */
+    private static final int FILTER_CHUNK = 1 << 12;
+    /**
+     * Array buffer into which the elements are stored
+     */
+    private double[] elementData;
+    /**
+     * The size of the list (number of elements it contains)
+     */
+    private int size = 0;
+    /**
+     * Counter for modifications to support fail-fast iteration
+     */
+    private int modCount = 0;
+    /**
+     * The capacity the list was created with, used by clear(true) to shrink the buffer
+     */
+    private final int initialCapacity;
+    /**
+     * Policy that decides the new capacity when the array is full
+     */
+    private final GrowthPolicy growthPolicy;
+
+    /**
+     * Constructs an empty list with default initial capacity
+     */
+    public DoubleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity
+     *
+     * @param capacity the initial capacity of the list
+     * @throws IllegalArgumentException if capacity is negative or too large
+     */
+    public DoubleArrayList(int capacity) {
+        this(capacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity and growth policy
+     *
+     * @param capacity     the initial capacity of the list
+     * @param growthPolicy the policy used to grow the array when it is full
+     * @throws IllegalArgumentException if capacity is negative or too large
+     * @throws NullPointerException     if growthPolicy is null
+     */
+    public DoubleArrayList(int capacity, GrowthPolicy growthPolicy) {
+        if (capacity < 0 || capacity > MyArrayList.MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Invalid array capacity");
+        }
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+        this.initialCapacity = capacity;
+        elementData = new double[capacity];
+    }
+
+    /**
+     * Constructs a list that takes over the given array as its buffer, with every slot in use
+     */
+    DoubleArrayList(double[] elements) {
+        this.growthPolicy = GrowthPolicy.DEFAULT;
+        this.initialCapacity = elements.length;
+        this.elementData = elements;
+        this.size = elements.length;
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends the specified element to the end of this list
+     *
+     * @param e element to be appended to this list
+     * @return true if the element was added successfully
+     */
+    public boolean add(double e) {
+        if (size == elementData.length) {
+            grow(size + 1);
+        }
+        modCount++;
+        elementData[size++] = e;
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list
+     *
+     * @param index index at which the element is to be inserted
+     * @param e     element to be inserted
+     * @return true if the element was added successfully
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public boolean add(int index, double e) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (size == elementData.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elementData, index, elementData, index + 1, size - index);
+        elementData[index] = e;
+        modCount++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Appends all elements of the specified array to the end of this list
+     *
+     * @param elements array containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified array is null
+     */
+    public boolean addAll(double[] elements) {
+        return insert(elements, elements.length);
+    }
+
+    /**
+     * Appends all elements of the specified list to the end of this list
+     *
+     * @param list list containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified list is null
+     */
+    public boolean addAll(DoubleArrayList list) {
+        return insert(list.elementData, list.size);
+    }
+
+    /**
+     * Appends the first numNew elements of the given array, growing the buffer at most once
+     */
+    private boolean insert(double[] a, int numNew) {
+        if (numNew == 0) {
+            return false;
+        }
+        if (numNew > MyArrayList.MAX_ARRAY_SIZE - size) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        if (size + numNew > elementData.length) {
+            grow(size + numNew);
+        }
+        System.arraycopy(a, 0, elementData, size, numNew);
+        modCount++;
+        size += numNew;
+        return true;
+    }
+
+    /**
+     * Increases the capacity of the array as proposed by the growth policy, or to minCapacity if that is larger
+     */
+    private void grow(int minCapacity) {
+        elementData = Arrays.copyOf(elementData, MyArrayList.newCapacity(growthPolicy, elementData.length, minCapacity));
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, so it can hold at least
+     * minCapacity elements without growing again
+     *
+     * @param minCapacity the desired minimum capacity
+     * @throws IllegalArgumentException if minCapacity is negative or too large
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MyArrayList.MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Invalid array capacity");
+        }
+        if (minCapacity > elementData.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of this list to its current size
+     */
+    public void trimToSize() {
+        if (size < elementData.length) {
+            elementData = Arrays.copyOf(elementData, size);
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return elementData[index];
+    }
+
+    /**
+     * Replaces the element at the specified position in this list
+     *
+     * @param index index of element to replace
+     * @param e     element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double set(int index, double e) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        double oldValue = elementData[index];
+        elementData[index] = e;
+        return oldValue;
+    }
+
+    /**
+     * Removes the element at the specified position in this list
+     *
+     * @param index index of element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        double oldValue = elementData[index];
+        System.arraycopy(elementData, index + 1, elementData, index, size - index - 1);
+        size--;
+        modCount++;
+        return oldValue;
+    }
+
+    /**
+     * Removes all elements whose index is between fromIndex, inclusive, and toIndex, exclusive
+     *
+     * @param fromIndex index of first element to be removed
+     * @param toIndex   index after last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value in this list.
+     * The scan runs on {@link PrimitiveKernels}, vectorized when the Vector API is available.
+     * Values are compared with ==, so NaN is never found
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence, or -1 if this list does not contain the value
+     */
+    public int indexOf(double value) {
+        return PrimitiveKernels.INSTANCE.indexOf(elementData, 0, size, value);
+    }
+
+    /**
+     * Returns true if this list contains the specified value
+     *
+     * @param value value whose presence in this list is to be tested
+     * @return true if this list contains the value
+     */
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the number of elements e with min &lt;= e &lt;= max
+     *
+     * @param min lower bound, inclusive
+     * @param max upper bound, inclusive
+     * @return the number of elements in the range
+     */
+    public int count(double min, double max) {
+        return PrimitiveKernels.INSTANCE.count(elementData, 0, size, min, max);
+    }
+
+    /**
+     * Replaces every element of this list with the specified value
+     *
+     * @param value value to be stored in every position
+     */
+    public void fill(double value) {
+        PrimitiveKernels.INSTANCE.fill(elementData, 0, size, value);
+    }
+
+    /**
+     * Appends the elements e with min &lt;= e &lt;= max to the target list, in order.
+     * The source is filtered in chunks of {@value #FILTER_CHUNK} elements and the target only
+     * needs room for one chunk at a time, so a selective filter grows the target with the
+     * selected elements rather than by the size of the source. They are written straight into its buffer
+     *
+     * @param min    lower bound, inclusive
+     * @param max    upper bound, inclusive
+     * @param target list the selected elements are appended to
+     * @return the number of appended elements
+     * @throws NullPointerException if target is null
+     */
+    public int filterInto(double min, double max, DoubleArrayList target) {
+        final double[] es = elementData;
+        final int end = size;
+        int added = 0;
+        for (int from = 0; from < end; from += FILTER_CHUNK) {
+            int to = Math.min(end, from + FILTER_CHUNK);
+            if (to - from > MyArrayList.MAX_ARRAY_SIZE - target.size) {
+                throw new OutOfMemoryError("Required array size too large");
+            }
+            if (target.size + (to - from) > target.elementData.length) {
+                target.grow(target.size + (to - from));
+            }
+            int selected = PrimitiveKernels.INSTANCE.filter(es, from, to, min, max, target.elementData, target.size);
+            target.size += selected;
+            added += selected;
+        }
+        if (added != 0) {
+            target.modCount++;
+        }
+        return added;
+    }
+
+    /**
+     * Returns true if this list contains no elements
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements from this list
+     */
+    public void clear() {
+        clear(false);
+    }
+
+    /**
+     * Removes all elements from this list and optionally gives back the memory of a grown buffer
+     *
+     * @param shrink if true and the buffer has grown beyond the initial capacity,
+     *               it is replaced with a new buffer of the initial capacity
+     */
+    public void clear(boolean shrink) {
+        if (shrink && elementData.length > initialCapacity) {
+            elementData = new double[initialCapacity];
+        }
+        if (size != 0) {
+            modCount++;
+            size = 0;
+        }
+    }
+
+    /**
+     * Returns an array containing all elements of this list in proper sequence
+     *
+     * @return a new array containing the elements of this list
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    /**
+     * Returns an iterator over the elements in this list.
+     * Use {@link PrimitiveIterator.OfDouble#nextDouble()} to read elements without boxing
+     *
+     * @return a primitive iterator over the elements
+     */
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Iterator implementation for DoubleArrayList
+     */
+    private class Itr implements PrimitiveIterator.OfDouble {
+        private int cursor;
+        private int lastRet = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public double nextDouble() {
+            checkForComodification();
+            int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            if (i >= elementData.length) {
+                throw new ConcurrentModificationException();
+            }
+            cursor = i + 1;
+            return elementData[lastRet = i];
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException("No element to remove");
+            }
+            checkForComodification();
+            try {
+                DoubleArrayList.this.remove(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            } catch (IndexOutOfBoundsException ex) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.learning.list;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Serializes elements into fixed-width slots of a {@link ByteBuffer}.
+ * Every element takes exactly {@link #width()} bytes; reads and writes use
+ * absolute offsets and never move the buffer position.
+ *
+ * @param <E> the type of elements handled by this codec
+ */
+public interface ElementCodec<E> {
+    /**
+     * Codec for non-null Integer elements, 4 bytes each
+     */
+    ElementCodec<Integer> INT = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer e) {
+            buffer.putInt(offset, e);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+    /**
+     * Codec for non-null Long elements, 8 bytes each
+     */
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long e) {
+            buffer.putLong(offset, e);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+    /**
+     * Codec for non-null Double elements, 8 bytes each
+     */
+    ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double e) {
+            buffer.putDouble(offset, e);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * Returns the number of bytes every element takes
+     *
+     * @return the slot width in bytes, always positive
+     */
+    int width();
+
+    /**
+     * Writes the element into the slot starting at the given offset
+     *
+     * @param buffer the target buffer
+     * @param offset the offset of the slot in bytes
+     * @param e      the element to write
+     */
+    void write(ByteBuffer buffer, int offset, E e);
+
+    /**
+     * Reads the element from the slot starting at the given offset
+     *
+     * @param buffer the source buffer
+     * @param offset the offset of the slot in bytes
+     * @return the decoded element
+     */
+    E read(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,73 @@
+package com.learning.list;
+
+import java.util.Objects;
+
+/**
+ * Strategy that decides how much the backing array of a list grows when it is full.
+ * The list always grows to at least the capacity it needs, so a policy only proposes
+ * the next capacity for the current one.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+    /**
+     * Default policy: grows the array by 50% plus one element
+     */
+    GrowthPolicy DEFAULT = oldCapacity -> oldCapacity + (oldCapacity >> 1) + 1;
+
+    /**
+     * Returns the proposed capacity of the array that replaces a full array of the given capacity
+     *
+     * @param oldCapacity the capacity of the full array
+     * @return the proposed new capacity
+     */
+    int newCapacity(int oldCapacity);
+
+    /**
+     * Returns a policy that multiplies the capacity by the given factor
+     *
+     * @param factor the growth factor
+     * @return a geometric growth policy
+     * @throws IllegalArgumentException if factor is not greater than 1
+     */
+    static GrowthPolicy geometric(double factor) {
+        if (!(factor > 1.0)) {
+            throw new IllegalArgumentException("Invalid growth factor");
+        }
+        return oldCapacity -> (int) Math.min(Integer.MAX_VALUE, (long) (oldCapacity * factor) + 1);
+    }
+
+    /**
+     * Returns a policy that adds a fixed number of slots to the capacity
+     *
+     * @param increment the number of slots to add
+     * @return a fixed increment growth policy
+     * @throws IllegalArgumentException if increment is not positive
+     */
+    static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Invalid growth increment");
+        }
+        return oldCapacity -> (int) Math.min(Integer.MAX_VALUE, (long) oldCapacity + increment);
+    }
+
+    /**
+     * Returns a policy that follows the given policy but never grows by more than maxIncrement slots at once
+     *
+     * @param policy       the policy to cap
+     * @param maxIncrement the maximum number of slots added by a single growth
+     * @return a capped growth policy
+     * @throws IllegalArgumentException if maxIncrement is not positive
+     * @throws NullPointerException     if policy is null
+     */
+    static GrowthPolicy capped(GrowthPolicy policy, int maxIncrement) {
+        Objects.requireNonNull(policy);
+        if (maxIncrement <= 0) {
+            throw new IllegalArgumentException("Invalid growth increment");
+        }
+        return oldCapacity -> {
+            int proposed = policy.newCapacity(oldCapacity);
+            long limit = (long) oldCapacity + maxIncrement;
+            return proposed < 0 || proposed > limit ? (int) Math.min(Integer.MAX_VALUE, limit) : proposed;
+        };
+    }
+}
@@ -0,0 +1,207 @@
+package com.learning.list;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Saves lists to files and opens them again as read-only memory-mapped lists.
+ * <p>
+ * A file starts with a 24-byte little-endian header followed by the payload:
+ * <pre>
+ * int   magic    0x4D414C31 ("MAL1")
+ * short version  1
+ * short kind     0 = codec, 1 = int, 2 = long, 3 = double
+ * int   width    bytes per element
+ * int   reserved 0
+ * long  count    number of elements
+ * </pre>
+ * The payload holds count slots of width bytes each, in list order.
+ * A file is mapped as a single region, so its payload is limited to 2 GB.
+ */
+public final class ListFiles {
+    static final int MAGIC = 0x4D414C31;
+    static final short VERSION = 1;
+    static final short KIND_CODEC = 0;
+    static final short KIND_INT = 1;
+    static final short KIND_LONG = 2;
+    static final short KIND_DOUBLE = 3;
+    static final int HEADER_SIZE = 24;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private ListFiles() {
+    }
+
+    /**
+     * Writes the list to the file, replacing its contents
+     *
+     * @param list  the list to save
+     * @param codec the codec used to encode elements
+     * @param path  the target file
+     * @param <E>   the type of elements in the list
+     * @throws IOException if the file cannot be written
+     */
+    public static <E> void save(MyArrayList<E> list, ElementCodec<E> codec, Path path) throws IOException {
+        try (FileChannel channel = openForWrite(path);
+             ChunkWriter writer = new ChunkWriter(channel, KIND_CODEC, codec.width(), list.size())) {
+            for (int i = 0; i < list.size(); i++) {
+                codec.write(writer.slot(), writer.offset(), list.get(i));
+                writer.advance();
+            }
+        }
+    }
+
+    /**
+     * Writes the list to the file, replacing its contents
+     *
+     * @param list the list to save
+     * @param path the target file
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(IntArrayList list, Path path) throws IOException {
+        try (FileChannel channel = openForWrite(path);
+             ChunkWriter writer = new ChunkWriter(channel, KIND_INT, Integer.BYTES, list.size())) {
+            for (int i = 0; i < list.size(); i++) {
+                writer.slot().putInt(writer.offset(), list.get(i));
+                writer.advance();
+            }
+        }
+    }
+
+    /**
+     * Writes the list to the file, replacing its contents
+     *
+     * @param list the list to save
+     * @param path the target file
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(LongArrayList list, Path path) throws IOException {
+        try (FileChannel channel = openForWrite(path);
+             ChunkWriter writer = new ChunkWriter(channel, KIND_LONG, Long.BYTES, list.size())) {
+            for (int i = 0; i < list.size(); i++) {
+                writer.slot().putLong(writer.offset(), list.get(i));
+                writer.advance();
+            }
+        }
+    }
+
+    /**
+     * Writes the list to the file, replacing its contents
+     *
+     * @param list the list to save
+     * @param path the target file
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(DoubleArrayList list, Path path) throws IOException {
+        try (FileChannel channel = openForWrite(path);
+             ChunkWriter writer = new ChunkWriter(channel, KIND_DOUBLE, Double.BYTES, list.size())) {
+            for (int i = 0; i < list.size(); i++) {
+                writer.slot().putDouble(writer.offset(), list.get(i));
+                writer.advance();
+            }
+        }
+    }
+
+    /**
+     * Maps a file written by {@link #save(MyArrayList, ElementCodec, Path)}
+     *
+     * @param path  the file to open
+     * @param codec the codec used to decode elements, must have the width stored in the file
+     * @param <E>   the type of elements in the list
+     * @return a read-only list reading straight from the mapping
+     * @throws IOException if the file cannot be read or has an invalid header
+     */
+    public static <E> MappedList<E> open(Path path, ElementCodec<E> codec) throws IOException {
+        return new MappedList<>(map(path, KIND_CODEC, codec.width()), codec);
+    }
+
+    /**
+     * Maps a file written by {@link #save(IntArrayList, Path)}
+     *
+     * @param path the file to open
+     * @return a read-only list reading straight from the mapping
+     * @throws IOException if the file cannot be read or has an invalid header
+     */
+    public static MappedIntList openInts(Path path) throws IOException {
+        return new MappedIntList(map(path, KIND_INT, Integer.BYTES));
+    }
+
+    /**
+     * Maps a file written by {@link #save(LongArrayList, Path)}
+     *
+     * @param path the file to open
+     * @return a read-only list reading straight from the mapping
+     * @throws IOException if the file cannot be read or has an invalid header
+     */
+    public static MappedLongList openLongs(Path path) throws IOException {
+        return new MappedLongList(map(path, KIND_LONG, Long.BYTES));
+    }
+
+    /**
+     * Maps a file written by {@link #save(DoubleArrayList, Path)}
+     *
+     * @param path the file to open
+     * @return a read-only list reading straight from the mapping
+     * @throws IOException if the file cannot be read or has an invalid header
+     */
+    public static MappedDoubleList openDoubles(Path path) throws IOException {
+        return new MappedDoubleList(map(path, KIND_DOUBLE, Double.BYTES));
+    }
+
+    private static FileChannel openForWrite(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Returns a header for count elements of the given kind and width, ready to be written
+     */
+    static ByteBuffer header(short kind, int width, long count) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        header.putInt(MAGIC).putShort(VERSION).putShort(kind).putInt(width).putInt(0).putLong(count);
+        return header.flip();
+    }
+
+    /**
+     * Validates a header against the expected layout and returns the element count
+     */
+    static long checkHeader(ByteBuffer header, short kind, int width) throws IOException {
+        if (header.getInt(0) != MAGIC || header.getShort(4) != VERSION) {
+            throw new IOException("Invalid list file: unknown format");
+        }
+        if (header.getShort(6) != kind || header.getInt(8) != width) {
+            throw new IOException("Invalid list file: element type does not match");
+        }
+        long count = header.getLong(16);
+        if (count < 0) {
+            throw new IOException("Invalid list file: negative element count");
+        }
+        return count;
+    }
+
+    /**
+     * Maps the whole file read-only and validates the header against the expected layout
+     */
+    private static MappedByteBuffer map(Path path, short kind, int width) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException("Invalid list file: header is missing");
+            }
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("List file too large to map");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            buffer.order(BYTE_ORDER);
+            long count = checkHeader(buffer, kind, width);
+            if (HEADER_SIZE + count * width != fileSize) {
+                throw new IOException("Invalid list file: element count does not match file size");
+            }
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.learning.list;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Change journal of a {@link MyArrayList}, enabled with {@link MyArrayList#enableJournal(int)}.
+ * <p>
+ * Every add, insert, set, remove and clear is recorded in a ring buffer under a sequence number.
+ * A replica remembers the sequence it is synchronized to and pulls the changes since then with
+ * {@link #changesSince(long)}, so the traffic is proportional to the number of changes rather
+ * than to the size of the list. When the replica is older than the oldest entry still in the
+ * ring, the pull falls back to a snapshot of the whole list.
+ * <p>
+ * Bulk operations that rewrite the list (sort, replaceAll, removeIf and friends) are not
+ * recorded element by element: they move the oldest available sequence up, so every replica
+ * receives a snapshot on its next pull. The journal is not thread-safe, like the list itself,
+ * and it keeps references to the values of the entries still in the ring.
+ *
+ * @param <E> the type of elements in the journaled list
+ */
+public class ListJournal<E> {
+    /**
+     * Kind of a recorded change
+     */
+    public enum Op {
+        /**
+         * Element appended to the end of the list
+         */
+        ADD,
+        /**
+         * Element inserted at an index
+         */
+        INSERT,
+        /**
+         * Element at an index replaced
+         */
+        SET,
+        /**
+         * Element at an index removed
+         */
+        REMOVE,
+        /**
+         * All elements removed
+         */
+        CLEAR
+    }
+
+    private static final Op[] OPS = Op.values();
+
+    /**
+     * The journaled list, read for snapshots
+     */
+    private final MyArrayList<E> list;
+    /**
+     * Ring buffer of the entries: kind, index and value, addressed by sequence &amp; mask
+     */
+    private final byte[] ops;
+    private final int[] indexes;
+    private final Object[] values;
+    private final int mask;
+    /**
+     * Sequence number of the next change
+     */
+    private long sequence = 0;
+    /**
+     * Oldest sequence from which the changes are complete, moved up by unrecorded rewrites
+     */
+    private long floor = 0;
+
+    /**
+     * Constructs a journal for the list with at least the given number of entries.
+     * The capacity is rounded up to a power of two
+     */
+    ListJournal(MyArrayList<E> list, int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid journal capacity");
+        }
+        int length = Integer.highestOneBit(capacity);
+        if (length < capacity) {
+            length <<= 1;
+        }
+        this.list = list;
+        this.ops = new byte[length];
+        this.indexes = new int[length];
+        this.values = new Object[length];
+        this.mask = length - 1;
+        if (!list.isEmpty()) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Returns the sequence number of the next change. A replica that has applied
+     * the changes up to this sequence is equal to the list
+     *
+     * @return the current sequence number
+     */
+    public long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the oldest sequence from which {@link #changesSince(long)} can answer
+     * with incremental changes instead of a snapshot
+     *
+     * @return the oldest available sequence
+     */
+    public long oldestSequence() {
+        return Math.max(floor, sequence - values.length);
+    }
+
+    /**
+     * Returns the number of entries the ring buffer holds
+     *
+     * @return the capacity of the journal
+     */
+    public int capacity() {
+        return values.length;
+    }
+
+    /**
+     * Returns the changes a replica at the given sequence has to apply to become equal to the list.
+     * A new, empty replica starts at sequence 0
+     *
+     * @param since the sequence the replica is synchronized to
+     * @return the changes since the sequence, or a snapshot if the journal no longer holds them
+     * @throws IllegalArgumentException if since is negative or greater than {@link #sequence()}
+     */
+    public Changes<E> changesSince(long since) {
+        if (since < 0 || since > sequence) {
+            throw new IllegalArgumentException("Invalid sequence");
+        }
+        if (since < oldestSequence()) {
+            return new Changes<>(since, sequence, null, null, list.toArray());
+        }
+        int count = (int) (sequence - since);
+        byte[] changeOps = new byte[count];
+        int[] changeIndexes = new int[count];
+        Object[] changeValues = new Object[count];
+        for (int i = 0; i < count; i++) {
+            int slot = (int) (since + i) & mask;
+            changeOps[i] = ops[slot];
+            changeIndexes[i] = indexes[slot];
+            changeValues[i] = values[slot];
+        }
+        return new Changes<>(since, sequence, changeOps, changeIndexes, changeValues);
+    }
+
+    /**
+     * Records a change under the next sequence number, overwriting the oldest entry when full
+     */
+    void record(Op op, int index, Object value) {
+        int slot = (int) sequence & mask;
+        ops[slot] = (byte) op.ordinal();
+        indexes[slot] = index;
+        values[slot] = value;
+        sequence++;
+    }
+
+    /**
+     * Records the insertion of numNew elements at index, or invalidates the journal
+     * if the batch would overwrite the whole ring anyway
+     */
+    void recordInserts(int index, Object[] a, int numNew) {
+        if (numNew >= values.length) {
+            invalidate();
+            return;
+        }
+        for (int i = 0; i < numNew; i++) {
+            record(Op.INSERT, index + i, a[i]);
+        }
+    }
+
+    /**
+     * Records the removal of count elements starting at index, or invalidates the journal
+     * if the batch would overwrite the whole ring anyway
+     */
+    void recordRemoves(int index, int count) {
+        if (count >= values.length) {
+            invalidate();
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            record(Op.REMOVE, index, null);
+        }
+    }
+
+    /**
+     * Consumes a sequence number for a change that was not recorded, so that every
+     * replica older than it gets a snapshot. The values in the ring are dropped
+     */
+    void invalidate() {
+        sequence++;
+        floor = sequence;
+        Arrays.fill(values, null);
+    }
+
+    /**
+     * A batch of changes between two sequence numbers, or a snapshot of the whole list
+     *
+     * @param <E> the type of elements in the journaled list
+     */
+    public static class Changes<E> {
+        private final long from;
+        private final long to;
+        /**
+         * Kinds and indexes of the changes, or null for a snapshot
+         */
+        private final byte[] ops;
+        private final int[] indexes;
+        /**
+         * Values of the changes, or the elements of a snapshot
+         */
+        private final Object[] values;
+
+        Changes(long from, long to, byte[] ops, int[] indexes, Object[] values) {
+            this.from = from;
+            this.to = to;
+            this.ops = ops;
+            this.indexes = indexes;
+            this.values = values;
+        }
+
+        /**
+         * Returns the sequence the changes start from
+         *
+         * @return the sequence of the replica the changes were requested for
+         */
+        public long from() {
+            return from;
+        }
+
+        /**
+         * Returns the sequence a replica is synchronized to after applying the changes
+         *
+         * @return the sequence to pass to the next pull
+         */
+        public long to() {
+            return to;
+        }
+
+        /**
+         * Returns true if this batch holds the whole list instead of incremental changes
+         *
+         * @return true for a snapshot
+         */
+        public boolean isSnapshot() {
+            return ops == null;
+        }
+
+        /**
+         * Returns the number of changes, or the number of elements of a snapshot
+         *
+         * @return the number of entries in this batch
+         */
+        public int size() {
+            return values.length;
+        }
+
+        /**
+         * Returns the kind of the change at the given position of an incremental batch
+         *
+         * @param i position of the change
+         * @return the kind of the change
+         * @throws IllegalStateException     if this batch is a snapshot
+         * @throws IndexOutOfBoundsException if i is out of range
+         */
+        public Op op(int i) {
+            checkIncremental(i);
+            return OPS[ops[i]];
+        }
+
+        /**
+         * Returns the list index of the change at the given position of an incremental batch.
+         * The index of ADD and CLEAR changes is the size of the list before the change
+         *
+         * @param i position of the change
+         * @return the index the change applies to
+         * @throws IllegalStateException     if this batch is a snapshot
+         * @throws IndexOutOfBoundsException if i is out of range
+         */
+        public int index(int i) {
+            checkIncremental(i);
+            return indexes[i];
+        }
+
+        /**
+         * Returns the value of the change at the given position, or the element at that
+         * position of a snapshot. REMOVE and CLEAR changes have no value
+         *
+         * @param i position of the change or element
+         * @return the value, or null
+         * @throws IndexOutOfBoundsException if i is out of range
+         */
+        public E value(int i) {
+            if (i < 0 || i >= values.length) {
+                throw new IndexOutOfBoundsException("Invalid index");
+            }
+            return (E) values[i];
+        }
+
+        /**
+         * Applies this batch to a replica that is synchronized to {@link #from()}.
+         * A snapshot replaces the content of the replica
+         *
+         * @param replica the list to be updated
+         * @throws NullPointerException if replica is null
+         */
+        public void applyTo(List<? super E> replica) {
+            Objects.requireNonNull(replica);
+            if (isSnapshot()) {
+                replica.clear();
+                replica.addAll((List<E>) Arrays.asList(values));
+                return;
+            }
+            for (int i = 0; i < values.length; i++) {
+                switch (OPS[ops[i]]) {
+                    case ADD:
+                        replica.add((E) values[i]);
+                        break;
+                    case INSERT:
+                        replica.add(indexes[i], (E) values[i]);
+                        break;
+                    case SET:
+                        replica.set(indexes[i], (E) values[i]);
+                        break;
+                    case REMOVE:
+                        replica.remove(indexes[i]);
+                        break;
+                    default:
+                        replica.clear();
+                }
+            }
+        }
+
+        private void checkIncremental(int i) {
+            if (ops == null) {
+                throw new IllegalStateException("Snapshot has no changes");
+            }
+            if (i < 0 || i >= ops.length) {
+                throw new IndexOutOfBoundsException("Invalid index");
+            }
+        }
+    }
+}
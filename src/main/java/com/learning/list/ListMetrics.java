@@ -0,0 +1,31 @@
+package com.learning.list;
+
+/**
+ * Listener for the internal events of a {@link MyArrayList}. A list created without metrics
+ * skips every notification with a single null check, so instrumentation costs nothing when
+ * it is disabled. Callbacks run on the thread that modifies the list and should be cheap.
+ *
+ * @see ListMetricsRecorder
+ */
+public interface ListMetrics {
+    /**
+     * Called after the backing array was replaced by a larger one
+     *
+     * @param oldCapacity    the capacity of the full array
+     * @param newCapacity    the capacity of the new array
+     * @param elementsCopied the number of elements copied into the new array
+     */
+    void onGrow(int oldCapacity, int newCapacity, int elementsCopied);
+
+    /**
+     * Called when elements are shifted to open or close a gap in the backing array
+     *
+     * @param distance the number of elements that were moved
+     */
+    void onShift(int distance);
+
+    /**
+     * Called before a ConcurrentModificationException is thrown
+     */
+    void onConcurrentModification();
+}
@@ -0,0 +1,167 @@
+package com.learning.list;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ListMetrics} that keeps counters and a histogram of shift distances.
+ * One recorder may be shared by many lists on many threads; the counters and every
+ * histogram bucket are {@link LongAdder}s, so recording does not contend.
+ * Values can be read at any time and cleared with {@link #reset()}.
+ * <p>
+ * The shift histogram has power-of-two buckets: bucket 0 counts shifts of zero elements,
+ * bucket i counts shifts in [2^(i-1), 2^i).
+ */
+public class ListMetricsRecorder implements ListMetrics {
+    /**
+     * Number of histogram buckets, enough for any int distance
+     */
+    public static final int HISTOGRAM_BUCKETS = 33;
+    /**
+     * Size of a reference in the backing array, assuming compressed oops
+     */
+    private static final int REFERENCE_BYTES = 4;
+
+    private final LongAdder grows = new LongAdder();
+    private final LongAdder elementsCopied = new LongAdder();
+    private final LongAdder shifts = new LongAdder();
+    private final LongAdder shiftDistance = new LongAdder();
+    private final LongAdder concurrentModifications = new LongAdder();
+    private final LongAdder[] shiftHistogram = new LongAdder[HISTOGRAM_BUCKETS];
+
+    /**
+     * Constructs a recorder with all counters at zero
+     */
+    public ListMetricsRecorder() {
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            shiftHistogram[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void onGrow(int oldCapacity, int newCapacity, int elementsCopied) {
+        grows.increment();
+        this.elementsCopied.add(elementsCopied);
+    }
+
+    @Override
+    public void onShift(int distance) {
+        shifts.increment();
+        shiftDistance.add(distance);
+        shiftHistogram[bucketOf(distance)].increment();
+    }
+
+    @Override
+    public void onConcurrentModification() {
+        concurrentModifications.increment();
+    }
+
+    /**
+     * Returns the number of times a backing array was grown
+     *
+     * @return the grow count
+     */
+    public long growCount() {
+        return grows.sum();
+    }
+
+    /**
+     * Returns the number of elements copied into grown arrays
+     *
+     * @return the number of copied elements
+     */
+    public long elementsCopied() {
+        return elementsCopied.sum();
+    }
+
+    /**
+     * Returns the number of bytes copied into grown arrays, assuming 4-byte references
+     *
+     * @return the number of copied bytes
+     */
+    public long bytesCopied() {
+        return elementsCopied.sum() * REFERENCE_BYTES;
+    }
+
+    /**
+     * Returns the number of shifts by positional inserts and removals
+     *
+     * @return the shift count
+     */
+    public long shiftCount() {
+        return shifts.sum();
+    }
+
+    /**
+     * Returns the total number of elements moved by shifts
+     *
+     * @return the sum of all shift distances
+     */
+    public long totalShiftDistance() {
+        return shiftDistance.sum();
+    }
+
+    /**
+     * Returns the average number of elements moved per shift
+     *
+     * @return the average shift distance, or 0 if nothing was shifted
+     */
+    public double averageShiftDistance() {
+        long count = shifts.sum();
+        return count == 0 ? 0 : (double) shiftDistance.sum() / count;
+    }
+
+    /**
+     * Returns a copy of the shift distance histogram
+     *
+     * @return the count of each power-of-two bucket
+     */
+    public long[] shiftHistogram() {
+        long[] counts = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            counts[i] = shiftHistogram[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of ConcurrentModificationExceptions thrown
+     *
+     * @return the concurrent modification count
+     */
+    public long concurrentModificationCount() {
+        return concurrentModifications.sum();
+    }
+
+    /**
+     * Clears all counters and the histogram
+     */
+    public void reset() {
+        grows.reset();
+        elementsCopied.reset();
+        shifts.reset();
+        shiftDistance.reset();
+        concurrentModifications.reset();
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            shiftHistogram[i].reset();
+        }
+    }
+
+    /**
+     * Returns the histogram bucket of a shift distance
+     *
+     * @param distance the number of moved elements
+     * @return the bucket index
+     */
+    static int bucketOf(int distance) {
+        return 32 - Integer.numberOfLeadingZeros(distance);
+    }
+
+    @Override
+    public String toString() {
+        return "ListMetricsRecorder{grows=" + growCount()
+                + ", bytesCopied=" + bytesCopied()
+                + ", shifts=" + shiftCount()
+                + ", averageShiftDistance=" + averageShiftDistance()
+                + ", concurrentModifications=" + concurrentModificationCount() + '}';
+    }
+}
@@ -0,0 +1,141 @@
+package com.learning.list;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Streams lists to and from channels without building an intermediate copy.
+ * <p>
+ * The wire format is the {@link ListFiles} format: a header carrying the element count,
+ * then fixed-width slots. Elements are encoded and decoded through one reusable 64 KB chunk,
+ * so peak memory stays at the list itself plus one chunk. A reader pre-sizes its list from
+ * the header up to {@link #MAX_PRESIZE} elements, so a corrupt count cannot force a huge
+ * allocation before any data arrives. Beyond that, capacity is reserved as chunks arrive,
+ * twice the elements read so far but never past the header count: a long list is copied
+ * a logarithmic number of times, and a corrupt count costs about twice the data that arrived.
+ * Streams and channels are not closed.
+ */
+public final class ListStreams {
+    /**
+     * Largest capacity reserved from the untrusted header count before reading any element
+     */
+    static final int MAX_PRESIZE = 1 << 16;
+
+    private ListStreams() {
+    }
+
+    /**
+     * Writes the list to the channel in fixed-size chunks
+     *
+     * @param list    the list to write
+     * @param codec   the codec used to encode elements
+     * @param channel the target channel
+     * @param <E>     the type of elements in the list
+     * @throws IOException if the channel cannot be written
+     */
+    public static <E> void writeTo(MyArrayList<E> list, ElementCodec<E> codec, WritableByteChannel channel) throws IOException {
+        try (ChunkWriter writer = new ChunkWriter(channel, ListFiles.KIND_CODEC, codec.width(), list.size())) {
+            for (int i = 0; i < list.size(); i++) {
+                codec.write(writer.slot(), writer.offset(), list.get(i));
+                writer.advance();
+            }
+        }
+    }
+
+    /**
+     * Writes the list to the stream in fixed-size chunks
+     *
+     * @param list  the list to write
+     * @param codec the codec used to encode elements
+     * @param out   the target stream
+     * @param <E>   the type of elements in the list
+     * @throws IOException if the stream cannot be written
+     */
+    public static <E> void writeTo(MyArrayList<E> list, ElementCodec<E> codec, OutputStream out) throws IOException {
+        writeTo(list, codec, Channels.newChannel(out));
+        out.flush();
+    }
+
+    /**
+     * Reads a list written by {@link #writeTo(MyArrayList, ElementCodec, WritableByteChannel)}
+     *
+     * @param channel the source channel
+     * @param codec   the codec used to decode elements
+     * @param <E>     the type of elements in the list
+     * @return a new list holding the elements read, sized exactly to them if there are at most
+     * {@link #MAX_PRESIZE}
+     * @throws IOException if the channel cannot be read or does not hold a list of this codec
+     */
+    public static <E> MyArrayList<E> readFrom(ReadableByteChannel channel, ElementCodec<E> codec) throws IOException {
+        ChunkReader reader = new ChunkReader(channel, ListFiles.KIND_CODEC, codec.width());
+        MyArrayList<E> list = new MyArrayList<>(Math.min(reader.count(), MAX_PRESIZE));
+        readElements(reader, codec, list);
+        return list;
+    }
+
+    /**
+     * Reads a list written by {@link #writeTo(MyArrayList, ElementCodec, OutputStream)}
+     *
+     * @param in    the source stream
+     * @param codec the codec used to decode elements
+     * @param <E>   the type of elements in the list
+     * @return a new list holding the elements read, sized exactly to them if there are at most
+     * {@link #MAX_PRESIZE}
+     * @throws IOException if the stream cannot be read or does not hold a list of this codec
+     */
+    public static <E> MyArrayList<E> readFrom(InputStream in, ElementCodec<E> codec) throws IOException {
+        return readFrom(Channels.newChannel(in), codec);
+    }
+
+    /**
+     * Reads a list from the channel and appends its elements to the target list.
+     * The target grows at most once for up to {@link #MAX_PRESIZE} elements, before the first
+     * element is read; longer lists grow as their chunks arrive
+     *
+     * @param channel the source channel
+     * @param codec   the codec used to decode elements
+     * @param target  the list receiving the elements
+     * @param <E>     the type of elements in the list
+     * @return the number of elements appended
+     * @throws IOException if the channel cannot be read or does not hold a list of this codec
+     */
+    public static <E> int readInto(ReadableByteChannel channel, ElementCodec<E> codec, MyArrayList<E> target) throws IOException {
+        ChunkReader reader = new ChunkReader(channel, ListFiles.KIND_CODEC, codec.width());
+        if (reader.count() > MyArrayList.MAX_ARRAY_SIZE - target.size()) {
+            throw new IOException("Invalid list stream: too many elements");
+        }
+        target.ensureCapacity(target.size() + Math.min(reader.count(), MAX_PRESIZE));
+        readElements(reader, codec, target);
+        return reader.count();
+    }
+
+    /**
+     * Appends the elements chunk by chunk, after the caller has pre-sized the target.
+     * When a chunk does not fit the capacity reserved so far, reserves room for as many
+     * elements again as were already read, capped at the header count
+     */
+    private static <E> void readElements(ChunkReader reader, ElementCodec<E> codec, MyArrayList<E> target) throws IOException {
+        final int start = target.size();
+        final int count = reader.count();
+        int reserved = start + Math.min(count, MAX_PRESIZE);
+        int read = 0;
+        while (read < count) {
+            ByteBuffer chunk = reader.slot();
+            int n = reader.buffered();
+            if (start + read + n > reserved) {
+                reserved = start + read + Math.min(count - read, Math.max(read, n));
+                target.ensureCapacity(reserved);
+            }
+            for (int i = 0; i < n; i++) {
+                target.add(codec.read(chunk, reader.offset()));
+                reader.advance();
+            }
+            read += n;
+        }
+    }
+}
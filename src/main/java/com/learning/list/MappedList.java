@@ -0,0 +1,80 @@
+package com.learning.list;
+
+import java.nio.MappedByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A read-only list over a memory-mapped file written by {@link ListFiles}.
+ * Every get decodes the element straight from the mapping.
+ *
+ * @param <E> the type of elements in this list
+ */
+public final class MappedList<E> extends AbstractMappedList implements Iterable<E> {
+    /**
+     * Codec used to decode elements
+     */
+    private final ElementCodec<E> codec;
+
+    MappedList(MappedByteBuffer buffer, ElementCodec<E> codec) {
+        super(buffer);
+        this.codec = codec;
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalStateException     if the list is closed
+     */
+    public E get(int index) {
+        int offset = offset(index);
+        long stamp = lock();
+        try {
+            return codec.read(buffer(), offset);
+        } finally {
+            unlock(stamp);
+        }
+    }
+
+    /**
+     * Decodes all mapped elements into a new heap list
+     *
+     * @return a new MyArrayList with the elements of this list
+     * @throws IllegalStateException if the list is closed
+     */
+    public MyArrayList<E> toMyArrayList() {
+        MyArrayList<E> list = new MyArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            list.add(get(i));
+        }
+        return list;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list
+     *
+     * @return an Iterator over the elements
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size();
+            }
+
+            @Override
+            public E next() {
+                if (cursor >= size()) {
+                    throw new NoSuchElementException();
+                }
+                return get(cursor++);
+            }
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.learning.list;
+
+import java.nio.MappedByteBuffer;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A read-only long list over a memory-mapped file written by {@link ListFiles#save(LongArrayList, java.nio.file.Path)}.
+ * Every get reads the value straight from the mapping without boxing.
+ */
+public final class MappedLongList extends AbstractMappedList implements Iterable<Long> {
+
+    MappedLongList(MappedByteBuffer buffer) {
+        super(buffer);
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalStateException     if the list is closed
+     */
+    public long get(int index) {
+        int offset = offset(index);
+        long stamp = lock();
+        try {
+            return buffer().getLong(offset);
+        } finally {
+            unlock(stamp);
+        }
+    }
+
+    /**
+     * Copies the mapped values into a new heap list
+     *
+     * @return a new LongArrayList with the elements of this list
+     * @throws IllegalStateException if the list is closed
+     */
+    public LongArrayList toLongArrayList() {
+        LongArrayList list = new LongArrayList(size());
+        for (int i = 0; i < size(); i++) {
+            list.add(get(i));
+        }
+        return list;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list.
+     * Use {@link PrimitiveIterator.OfLong#nextLong()} to read elements without boxing
+     *
+     * @return a primitive iterator over the elements
+     */
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size();
+            }
+
+            @Override
+            public long nextLong() {
+                if (cursor >= size()) {
+                    throw new NoSuchElementException();
+                }
+                return get(cursor++);
+            }
+        };
+    }
+}
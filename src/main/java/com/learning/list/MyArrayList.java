@@ -1,21 +1,45 @@
 package com.learning.list;
 
+import java.util.AbstractList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A custom implementation of an ArrayList data structure.
  * Provides dynamic array functionality with automatic resizing.
+ * Implements {@link List} and {@link RandomAccess}, so it can be handed to JDK APIs without copying.
  *
  * @param <E> the type of elements in this list
  */
-public class MyArrayList<E> implements Iterable<E> {
+public class MyArrayList<E> implements List<E>, RandomAccess {
     /**
      * Default initial capacity of the ArrayList
      */
     private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * The maximum size of array to allocate
+     */
+    static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    /**
+     * Lists smaller than this are sorted and transformed sequentially by the parallel methods,
+     * and larger ranges are split into ForkJoin tasks of at most this many elements
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 13;
     /**
      * Array buffer into which the elements are stored
      */
@@ -28,12 +52,36 @@ public class MyArrayList<E> implements Iterable<E> {
      * Counter for modifications to support fail-fast iteration
      */
     private int modCount = 0;
+    /**
+     * The capacity the list was created with, used by clear(true) to shrink the buffer
+     */
+    private final int initialCapacity;
+    /**
+     * Policy that decides the new capacity when the array is full
+     */
+    private final GrowthPolicy growthPolicy;
+    /**
+     * Pool that supplies and takes back the buffers of this list, or null for a plain list
+     */
+    private final MyArrayListPool pool;
+    /**
+     * True while a pooled list is back in its pool and owned by nobody
+     */
+    private boolean released;
+    /**
+     * Listener for grow, shift and concurrent modification events, or null when disabled
+     */
+    private final ListMetrics metrics;
+    /**
+     * Journal that records the changes of this list for replicas, or null when disabled
+     */
+    private ListJournal<E> journal;
 
     /**
      * Constructs an empty list with default initial capacity
      */
     public MyArrayList() {
-        elementData = new Object[DEFAULT_CAPACITY];
+        this(DEFAULT_CAPACITY);
     }
 
     /**
@@ -43,17 +91,71 @@ public class MyArrayList<E> implements Iterable<E> {
      * @throws IllegalArgumentException if capacity is negative or too large
      */
     public MyArrayList(int capacity) {
-        if (capacity < 0 || capacity > Integer.MAX_VALUE - 8) {
+        this(capacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity and growth policy
+     *
+     * @param capacity     the initial capacity of the list
+     * @param growthPolicy the policy used to grow the array when it is full
+     * @throws IllegalArgumentException if capacity is negative or too large
+     * @throws NullPointerException     if growthPolicy is null
+     */
+    public MyArrayList(int capacity, GrowthPolicy growthPolicy) {
+        this(capacity, growthPolicy, null);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity and growth policy
+     * that reports its internal events to the given metrics
+     *
+     * @param capacity     the initial capacity of the list
+     * @param growthPolicy the policy used to grow the array when it is full
+     * @param metrics      the listener for grow, shift and concurrent modification events, or null to disable
+     * @throws IllegalArgumentException if capacity is negative or too large
+     * @throws NullPointerException     if growthPolicy is null
+     */
+    public MyArrayList(int capacity, GrowthPolicy growthPolicy, ListMetrics metrics) {
+        if (capacity < 0 || capacity > MAX_ARRAY_SIZE) {
             throw new IllegalArgumentException("Invalid array capacity");
         }
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+        this.initialCapacity = capacity;
+        this.pool = null;
+        this.metrics = metrics;
         elementData = new Object[capacity];
     }
 
+    /**
+     * Constructs a list that takes over the given array as its buffer, with every slot in use
+     */
+    MyArrayList(Object[] elements) {
+        this.growthPolicy = GrowthPolicy.DEFAULT;
+        this.initialCapacity = elements.length;
+        this.pool = null;
+        this.metrics = null;
+        this.elementData = elements;
+        this.size = elements.length;
+    }
+
+    /**
+     * Constructs an empty pooled list on a buffer taken from the pool
+     */
+    MyArrayList(MyArrayListPool pool, Object[] buffer) {
+        this.growthPolicy = GrowthPolicy.DEFAULT;
+        this.initialCapacity = 0;
+        this.pool = pool;
+        this.metrics = null;
+        elementData = buffer;
+    }
+
     /**
      * Returns the number of elements in this list
      *
      * @return the number of elements in this list
      */
+    @Override
     public int size() {
         return size;
     }
@@ -64,7 +166,11 @@ public class MyArrayList<E> implements Iterable<E> {
      * @param e element to be appended to this list
      * @return true if the element was added successfully
      */
+    @Override
     public boolean add(E e) {
+        if (journal != null) {
+            journal.record(ListJournal.Op.ADD, size, e);
+        }
         add(e, size);
         return true;
     }
@@ -74,10 +180,10 @@ public class MyArrayList<E> implements Iterable<E> {
      *
      * @param index index at which the element is to be inserted
      * @param e     element to be inserted
-     * @return true if the element was added successfully
      * @throws IndexOutOfBoundsException if index is out of range
      */
-    public boolean add(int index, E e) {
+    @Override
+    public void add(int index, E e) {
         if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException("Invalid index");
         }
@@ -85,7 +191,95 @@ public class MyArrayList<E> implements Iterable<E> {
             grow();
         }
         System.arraycopy(elementData, index, elementData, index + 1, size - index);
+        if (metrics != null) {
+            metrics.onShift(size - index);
+        }
+        if (journal != null) {
+            journal.record(ListJournal.Op.INSERT, index, e);
+        }
         add(e, index);
+    }
+
+    /**
+     * Appends all elements of the specified collection to the end of this list,
+     * in the order they are returned by the collection's toArray method
+     *
+     * @param c collection containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] a = c.toArray();
+        return insert(size, a, a.length);
+    }
+
+    /**
+     * Inserts all elements of the specified collection into this list, starting at the specified position
+     *
+     * @param index index at which to insert the first element from the specified collection
+     * @param c     collection containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NullPointerException      if the specified collection is null
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        Object[] a = c.toArray();
+        return insert(index, a, a.length);
+    }
+
+    /**
+     * Appends all elements of the specified array to the end of this list
+     *
+     * @param elements array containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified array is null
+     */
+    public boolean addAll(E[] elements) {
+        return insert(size, elements, elements.length);
+    }
+
+    /**
+     * Appends all elements of the specified list to the end of this list.
+     * Elements are copied straight from the backing array of the given list. When the list
+     * is this list, its elements are copied out first, because growing a pooled list hands
+     * the old buffer back to the pool and clears it
+     *
+     * @param list list containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified list is null
+     */
+    public boolean addAll(MyArrayList<? extends E> list) {
+        Object[] a = list == this ? Arrays.copyOf(elementData, size) : list.elementData;
+        return insert(size, a, list.size);
+    }
+
+    /**
+     * Inserts the first numNew elements of the given array at the specified index.
+     * Grows the buffer at most once and shifts the tail with a single arraycopy
+     */
+    private boolean insert(int index, Object[] a, int numNew) {
+        if (numNew == 0) {
+            return false;
+        }
+        ensureCapacityInternal(size + numNew);
+        int numMoved = size - index;
+        if (numMoved > 0) {
+            System.arraycopy(elementData, index, elementData, index + numNew, numMoved);
+            if (metrics != null) {
+                metrics.onShift(numMoved);
+            }
+        }
+        System.arraycopy(a, 0, elementData, index, numNew);
+        if (journal != null) {
+            journal.recordInserts(index, a, numNew);
+        }
+        modCount++;
+        size += numNew;
         return true;
     }
 
@@ -108,16 +302,156 @@ public class MyArrayList<E> implements Iterable<E> {
         return size == elementData.length;
     }
 
+    /**
+     * Makes sure the array can hold at least minCapacity elements
+     */
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        if (minCapacity > elementData.length) {
+            grow(minCapacity);
+        }
+    }
+
     /**
      * Increases the capacity of the array
      */
     private void grow() {
+        grow(size + 1);
+    }
+
+    /**
+     * Increases the capacity of the array as proposed by the growth policy, or to minCapacity if that is larger
+     */
+    private void grow(int minCapacity) {
         int oldCapacity = elementData.length;
-        int newCapacity = oldCapacity + (oldCapacity >> 1) + 1;
-        if (newCapacity - oldCapacity < 0) {
-            newCapacity = Integer.MAX_VALUE - 8;
+        int newCapacity = newCapacity(growthPolicy, oldCapacity, minCapacity);
+        if (pool == null) {
+            elementData = Arrays.copyOf(elementData, newCapacity);
+        } else {
+            Object[] oldData = elementData;
+            Object[] newData = pool.take(newCapacity);
+            System.arraycopy(oldData, 0, newData, 0, size);
+            elementData = newData;
+            pool.recycle(oldData, size);
+        }
+        if (metrics != null) {
+            metrics.onGrow(oldCapacity, elementData.length, size);
+        }
+    }
+
+    /**
+     * Computes the capacity of the array that replaces a full array of oldCapacity slots.
+     * The result is never less than minCapacity and never greater than MAX_ARRAY_SIZE
+     */
+    static int newCapacity(GrowthPolicy growthPolicy, int oldCapacity, int minCapacity) {
+        int newCapacity = growthPolicy.newCapacity(oldCapacity);
+        if (newCapacity < 0 || newCapacity > MAX_ARRAY_SIZE) {
+            newCapacity = MAX_ARRAY_SIZE;
+        }
+        return Math.max(newCapacity, minCapacity);
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, so it can hold at least
+     * minCapacity elements without growing again
+     *
+     * @param minCapacity the desired minimum capacity
+     * @throws IllegalArgumentException if minCapacity is negative or too large
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Invalid array capacity");
+        }
+        if (minCapacity > elementData.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of this list to its current size
+     */
+    public void trimToSize() {
+        if (size < elementData.length) {
+            elementData = Arrays.copyOf(elementData, size);
+        }
+    }
+
+    /**
+     * Trims the buffer to size and hands it out. The caller takes over the array: this list
+     * is left empty on a new buffer, so a leaked reference to it can no longer reach the array,
+     * and open iterators fail fast
+     */
+    Object[] trimmedElementData() {
+        trimToSize();
+        Object[] buffer = elementData;
+        elementData = new Object[0];
+        size = 0;
+        modCount++;
+        return buffer;
+    }
+
+    /**
+     * Returns the pool this list belongs to, or null for a plain list
+     */
+    MyArrayListPool pool() {
+        return pool;
+    }
+
+    /**
+     * Returns true if this pooled list has been released and not acquired again
+     */
+    boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Marks this pooled list as released to its pool or handed out to a new owner
+     */
+    void setReleased(boolean released) {
+        this.released = released;
+    }
+
+    /**
+     * Starts recording the changes of this list in a journal, so that replicas can pull
+     * the changes since their last synchronization instead of a copy of the whole list
+     *
+     * @param capacity the number of changes the journal keeps before replicas fall back to a snapshot
+     * @return the journal of this list
+     * @throws IllegalArgumentException if capacity is not positive or larger than 2^30
+     * @throws IllegalStateException    if the journal is already enabled
+     */
+    public ListJournal<E> enableJournal(int capacity) {
+        if (journal != null) {
+            throw new IllegalStateException("Journal is already enabled");
         }
-        elementData = Arrays.copyOf(elementData, newCapacity);
+        journal = new ListJournal<>(this, capacity);
+        return journal;
+    }
+
+    /**
+     * Returns the journal of this list, or null if it was not enabled
+     *
+     * @return the journal of this list, or null
+     */
+    public ListJournal<E> journal() {
+        return journal;
+    }
+
+    /**
+     * Takes the buffer away from this list for recycling. The slots in use are nulled out,
+     * the list is left empty on the given buffer, its journal is dropped so that the next
+     * owner starts without one, and open iterators fail fast
+     */
+    Object[] detach(Object[] replacement) {
+        Object[] buffer = elementData;
+        Arrays.fill(buffer, 0, size, null);
+        elementData = replacement;
+        journal = null;
+        size = 0;
+        modCount++;
+        return buffer;
     }
 
     /**
@@ -127,6 +461,7 @@ public class MyArrayList<E> implements Iterable<E> {
      * @return the element at the specified position
      * @throws IndexOutOfBoundsException if index is out of range
      */
+    @Override
     public E get(int index) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Invalid index");
@@ -142,12 +477,16 @@ public class MyArrayList<E> implements Iterable<E> {
      * @return the element previously at the specified position
      * @throws IndexOutOfBoundsException if index is out of range
      */
+    @Override
     public E set(int index, E e) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Invalid index");
         }
         E oldValue = (E) elementData[index];
         elementData[index] = e;
+        if (journal != null) {
+            journal.record(ListJournal.Op.SET, index, e);
+        }
         return oldValue;
     }
 
@@ -158,22 +497,240 @@ public class MyArrayList<E> implements Iterable<E> {
      * @return the element that was removed from the list
      * @throws IndexOutOfBoundsException if index is out of range
      */
+    @Override
     public E remove(int index) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Invalid index");
         }
         E oldValue = (E) elementData[index];
         System.arraycopy(elementData, index + 1, elementData, index, size - index - 1);
+        if (metrics != null) {
+            metrics.onShift(size - index - 1);
+        }
+        if (journal != null) {
+            journal.record(ListJournal.Op.REMOVE, index, null);
+        }
         elementData[--size] = null;
         modCount++;
         return oldValue;
     }
 
+    /**
+     * Removes all elements whose index is between fromIndex, inclusive, and toIndex, exclusive.
+     * The tail is shifted with a single arraycopy
+     *
+     * @param fromIndex index of first element to be removed
+     * @param toIndex   index after last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+        if (metrics != null) {
+            metrics.onShift(size - toIndex);
+        }
+        if (journal != null) {
+            journal.recordRemoves(fromIndex, toIndex - fromIndex);
+        }
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elementData, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements of this list that satisfy the given predicate
+     *
+     * @param filter a predicate which returns true for elements to be removed
+     * @return true if any elements were removed
+     * @throws NullPointerException if the specified filter is null
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        return removeWhere(filter);
+    }
+
+    /**
+     * Removes from this list all of its elements that are contained in the specified collection
+     *
+     * @param c collection containing elements to be removed from this list
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeWhere(c::contains);
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the specified collection
+     *
+     * @param c collection containing elements to be retained in this list
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeWhere(e -> !c.contains(e));
+    }
+
+    /**
+     * Compacts the kept elements to the front in a single pass, nulls out the vacated
+     * slots and increases modCount once. If the filter throws, the elements that were
+     * not tested yet are kept
+     */
+    private boolean removeWhere(Predicate<? super E> filter) {
+        final int expectedModCount = modCount;
+        final Object[] es = elementData;
+        final int end = size;
+        int r = 0;
+        int w = 0;
+        try {
+            for (; r < end; r++) {
+                Object e = es[r];
+                if (!filter.test((E) e)) {
+                    es[w++] = e;
+                }
+            }
+            if (modCount != expectedModCount) {
+                throw concurrentModification();
+            }
+        } finally {
+            if (r != end) {
+                System.arraycopy(es, r, es, w, end - r);
+                w += end - r;
+            }
+            if (w != end) {
+                Arrays.fill(es, w, end, null);
+                size = w;
+                modCount++;
+                if (journal != null) {
+                    journal.invalidate();
+                }
+            }
+        }
+        return w != end;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list
+     *
+     * @param o element to search for
+     * @return the index of the first occurrence, or -1 if this list does not contain the element
+     */
+    @Override
+    public int indexOf(Object o) {
+        final Object[] es = elementData;
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(o, es[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list
+     *
+     * @param o element to search for
+     * @return the index of the last occurrence, or -1 if this list does not contain the element
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        final Object[] es = elementData;
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(o, es[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains the specified element
+     *
+     * @param o element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Sorts this list in place according to the order induced by the specified comparator.
+     * The sort is stable
+     *
+     * @param c the comparator to compare elements, or null to use the natural ordering
+     * @throws ClassCastException              if c is null and the elements are not mutually comparable
+     * @throws ConcurrentModificationException if the list was structurally modified by the comparator
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        final int expectedModCount = modCount;
+        if (journal != null) {
+            journal.invalidate();
+        }
+        Arrays.sort((E[]) elementData, 0, size, c);
+        if (modCount != expectedModCount) {
+            throw concurrentModification();
+        }
+        modCount++;
+    }
+
+    /**
+     * Searches this list for the specified key using binary search.
+     * The list must be sorted by the same comparator, otherwise the result is undefined
+     *
+     * @param key the element to search for
+     * @param c   the comparator by which the list is ordered, or null for the natural ordering
+     * @return the index of the key if it is contained in the list; otherwise (-(insertion point) - 1)
+     */
+    public int binarySearch(E key, Comparator<? super E> c) {
+        return Arrays.binarySearch((E[]) elementData, 0, size, key, c);
+    }
+
+    /**
+     * Merges a sorted batch into this sorted list in a single pass from the back.
+     * Elements of the batch are placed after existing elements that compare equal
+     */
+    void mergeSorted(Object[] batch, int length, Comparator<? super E> c) {
+        if (length == 0) {
+            return;
+        }
+        ensureCapacityInternal(size + length);
+        final Object[] es = elementData;
+        int i = size - 1;
+        int j = length - 1;
+        int k = size + length - 1;
+        while (j >= 0) {
+            if (i >= 0 && c.compare((E) es[i], (E) batch[j]) > 0) {
+                es[k--] = es[i--];
+            } else {
+                es[k--] = batch[j--];
+            }
+        }
+        if (journal != null) {
+            journal.invalidate();
+        }
+        modCount++;
+        size += length;
+    }
+
     /**
      * Returns true if this list contains no elements
      *
      * @return true if this list contains no elements
      */
+    @Override
     public boolean isEmpty() {
         return size == 0;
     }
@@ -181,13 +738,44 @@ public class MyArrayList<E> implements Iterable<E> {
     /**
      * Removes all elements from this list
      */
+    @Override
     public void clear() {
-        if (size == 0) {
-            return;
+        clear(false);
+    }
+
+    /**
+     * Removes all elements from this list and optionally gives back the memory of a grown buffer
+     *
+     * @param shrink if true and the buffer has grown beyond the initial capacity,
+     *               it is replaced with a new buffer of the initial capacity
+     */
+    public void clear(boolean shrink) {
+        if (shrink && elementData.length > initialCapacity) {
+            Object[] oldData = elementData;
+            elementData = new Object[initialCapacity];
+            if (pool != null) {
+                pool.recycle(oldData, size);
+            }
+        } else if (size != 0) {
+            Arrays.fill(elementData, 0, size, null);
         }
-        Arrays.fill(elementData, null);
-        modCount++;
-        size = 0;
+        if (size != 0) {
+            if (journal != null) {
+                journal.record(ListJournal.Op.CLEAR, size, null);
+            }
+            modCount++;
+            size = 0;
+        }
+    }
+
+    /**
+     * Reports a concurrent modification to the metrics and returns the exception to throw
+     */
+    private ConcurrentModificationException concurrentModification() {
+        if (metrics != null) {
+            metrics.onConcurrentModification();
+        }
+        return new ConcurrentModificationException();
     }
 
     /**
@@ -201,12 +789,344 @@ public class MyArrayList<E> implements Iterable<E> {
     }
 
     /**
-     * Iterator implementation for MyArrayList
+     * Performs the given action for each element of this list without allocating an iterator.
+     * Concurrent modification is detected once, after the loop
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException            if the specified action is null
+     * @throws ConcurrentModificationException if the list was structurally modified by the action
      */
-    private class Itr implements Iterator<E> {
-        private int cursor;
-        private int lastRet = -1;
-        private int expectedModCount = modCount;
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        forEachInRange(0, size, action);
+    }
+
+    /**
+     * Performs the given action for each element whose index is between fromIndex, inclusive,
+     * and toIndex, exclusive. Concurrent modification is detected once, after the loop
+     *
+     * @param fromIndex index of the first element
+     * @param toIndex   index after the last element
+     * @param action    the action to be performed for each element
+     * @throws IndexOutOfBoundsException       if fromIndex or toIndex is out of range
+     * @throws NullPointerException            if the specified action is null
+     * @throws ConcurrentModificationException if the list was structurally modified by the action
+     */
+    public void forEachRange(int fromIndex, int toIndex, Consumer<? super E> action) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+        Objects.requireNonNull(action);
+        forEachInRange(fromIndex, toIndex, action);
+    }
+
+    private void forEachInRange(int fromIndex, int toIndex, Consumer<? super E> action) {
+        final int expectedModCount = modCount;
+        final Object[] es = elementData;
+        for (int i = fromIndex; i < toIndex; i++) {
+            action.accept((E) es[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw concurrentModification();
+        }
+    }
+
+    /**
+     * Replaces each element of this list with the result of applying the operator to that element.
+     * Like set, this is not a structural modification
+     *
+     * @param operator the operator to apply to each element
+     * @throws NullPointerException            if the specified operator is null
+     * @throws ConcurrentModificationException if the list was structurally modified by the operator
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        final Object[] es = elementData;
+        final int end = size;
+        if (journal != null) {
+            journal.invalidate();
+        }
+        for (int i = 0; i < end; i++) {
+            es[i] = operator.apply((E) es[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw concurrentModification();
+        }
+    }
+
+    /**
+     * Sorts this list in place using the common ForkJoin pool. Lists below the parallel
+     * threshold are sorted sequentially. The sort is stable
+     *
+     * @param c the comparator to compare elements, or null to use the natural ordering
+     * @throws ClassCastException              if c is null and the elements are not mutually comparable
+     * @throws ConcurrentModificationException if the list was structurally modified during the sort
+     */
+    public void parallelSort(Comparator<? super E> c) {
+        if (size < PARALLEL_THRESHOLD) {
+            sort(c);
+            return;
+        }
+        final int expectedModCount = modCount;
+        if (journal != null) {
+            journal.invalidate();
+        }
+        Arrays.parallelSort((E[]) elementData, 0, size, c);
+        if (modCount != expectedModCount) {
+            throw concurrentModification();
+        }
+        modCount++;
+    }
+
+    /**
+     * Replaces each element of this list with the result of applying the operator to it,
+     * splitting the range into ForkJoin tasks. Lists below the parallel threshold are
+     * transformed sequentially. The operator must be safe to call from several threads
+     *
+     * @param operator the operator to apply to each element
+     * @throws NullPointerException            if the specified operator is null
+     * @throws ConcurrentModificationException if the list was structurally modified during the transform
+     */
+    public void parallelReplaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        if (size < PARALLEL_THRESHOLD) {
+            replaceAll(operator);
+            return;
+        }
+        final int expectedModCount = modCount;
+        if (journal != null) {
+            journal.invalidate();
+        }
+        new ReplaceAllTask<>(elementData, 0, size, operator).invoke();
+        if (modCount != expectedModCount) {
+            throw concurrentModification();
+        }
+    }
+
+    /**
+     * Returns a late-binding and fail-fast spliterator over the elements in this list.
+     * It reports SIZED, SUBSIZED and ORDERED and splits the range in halves
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArrayListSpliterator(0, -1, 0);
+    }
+
+    /**
+     * Returns a sequential Stream with this list as its source
+     *
+     * @return a sequential Stream over the elements in this list
+     */
+    @Override
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel Stream with this list as its source
+     *
+     * @return a possibly parallel Stream over the elements in this list
+     */
+    @Override
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list, if it is present
+     *
+     * @param o element to be removed from this list, if present
+     * @return true if this list contained the specified element
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Returns true if this list contains all of the elements of the specified collection
+     *
+     * @param c collection to be checked for containment in this list
+     * @return true if this list contains all of the elements of the specified collection
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object o : c) {
+            if (!contains(o)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list in proper sequence
+     *
+     * @return a new array containing all of the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list in proper sequence.
+     * The given array is used if it is big enough; otherwise a new array of the same type is allocated
+     *
+     * @param a   the array into which the elements are to be stored, if it is big enough
+     * @param <T> the component type of the array
+     * @return an array containing the elements of this list
+     * @throws ArrayStoreException  if the runtime type of a is not a supertype of every element
+     * @throws NullPointerException if the specified array is null
+     */
+    @Override
+    public <T> T[] toArray(T[] a) {
+        if (a.length < size) {
+            return (T[]) Arrays.copyOf(elementData, size, a.getClass());
+        }
+        System.arraycopy(elementData, 0, a, 0, size);
+        if (a.length > size) {
+            a[size] = null;
+        }
+        return a;
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list
+     *
+     * @return a fail-fast ListIterator starting at the first element
+     */
+    @Override
+    public ListIterator<E> listIterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list, starting at the specified position
+     *
+     * @param index index of the first element to be returned by next
+     * @return a fail-fast ListIterator starting at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return new ListItr(index);
+    }
+
+    /**
+     * Returns a view of the portion of this list between fromIndex, inclusive, and toIndex, exclusive.
+     * The view shares the backing array, so no elements are copied. Changes through the view are
+     * visible in this list and vice versa; a structural change made to this list directly
+     * makes the view fail fast with ConcurrentModificationException
+     *
+     * @param fromIndex low endpoint, inclusive, of the view
+     * @param toIndex   high endpoint, exclusive, of the view
+     * @return a view of the specified range within this list
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range
+     */
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        checkSubListRange(fromIndex, toIndex, size);
+        return new SubList(null, fromIndex, toIndex - fromIndex);
+    }
+
+    private static void checkSubListRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+    }
+
+    /**
+     * Compares the specified object with this list for equality. Two lists are equal if
+     * they contain equal elements in the same order
+     *
+     * @param o the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof List)) {
+            return false;
+        }
+        final int expectedModCount = modCount;
+        boolean equal;
+        if (o instanceof MyArrayList) {
+            MyArrayList<?> other = (MyArrayList<?>) o;
+            equal = size == other.size && Arrays.equals(elementData, 0, size, other.elementData, 0, size);
+        } else {
+            Iterator<?> it = ((List<?>) o).iterator();
+            equal = true;
+            for (int i = 0; i < size && equal; i++) {
+                equal = it.hasNext() && Objects.equals(elementData[i], it.next());
+            }
+            equal = equal && !it.hasNext();
+        }
+        if (modCount != expectedModCount) {
+            throw concurrentModification();
+        }
+        return equal;
+    }
+
+    /**
+     * Returns the hash code value for this list, as defined by {@link List#hashCode()}
+     *
+     * @return the hash code value for this list
+     */
+    @Override
+    public int hashCode() {
+        final int expectedModCount = modCount;
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Objects.hashCode(elementData[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw concurrentModification();
+        }
+        return hash;
+    }
+
+    /**
+     * Returns a string representation of this list in the form [e1, e2, ...]
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            Object e = elementData[i];
+            sb.append(e == this ? "(this Collection)" : e);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Iterator implementation for MyArrayList
+     */
+    private class Itr implements Iterator<E> {
+        int cursor;
+        int lastRet = -1;
+        int expectedModCount = modCount;
 
         @Override
         public boolean hasNext() {
@@ -221,7 +1141,7 @@ public class MyArrayList<E> implements Iterable<E> {
                 throw new NoSuchElementException();
             }
             if (i >= elementData.length) {
-                throw new ConcurrentModificationException();
+                throw concurrentModification();
             }
             cursor = i + 1;
             return (E) elementData[lastRet = i];
@@ -240,14 +1160,303 @@ public class MyArrayList<E> implements Iterable<E> {
                 lastRet = -1;
                 expectedModCount = modCount;
             } catch (IndexOutOfBoundsException ex) {
-                throw new ConcurrentModificationException();
+                throw concurrentModification();
             }
         }
 
         final void checkForComodification() {
             if (modCount != expectedModCount) {
-                throw new ConcurrentModificationException();
+                throw concurrentModification();
+            }
+        }
+    }
+
+    /**
+     * ListIterator implementation for MyArrayList
+     */
+    private class ListItr extends Itr implements ListIterator<E> {
+
+        ListItr(int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor != 0;
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            int i = cursor - 1;
+            if (i < 0) {
+                throw new NoSuchElementException();
+            }
+            if (i >= elementData.length) {
+                throw concurrentModification();
+            }
+            cursor = i;
+            return (E) elementData[lastRet = i];
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastRet < 0) {
+                throw new IllegalStateException("No element to set");
+            }
+            checkForComodification();
+            try {
+                MyArrayList.this.set(lastRet, e);
+            } catch (IndexOutOfBoundsException ex) {
+                throw concurrentModification();
+            }
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+            try {
+                MyArrayList.this.add(cursor, e);
+                cursor++;
+                lastRet = -1;
+                expectedModCount = modCount;
+            } catch (IndexOutOfBoundsException ex) {
+                throw concurrentModification();
+            }
+        }
+    }
+
+    /**
+     * View of a range of this list that shares the backing array. Structural changes made
+     * through the view update the sizes of all enclosing views; changes made around it fail fast
+     */
+    private final class SubList extends AbstractList<E> implements RandomAccess {
+        private final SubList parent;
+        private final int offset;
+        private int size;
+
+        SubList(SubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.modCount = MyArrayList.this.modCount;
+        }
+
+        @Override
+        public E get(int index) {
+            checkIndex(index);
+            checkForComodification();
+            return (E) elementData[offset + index];
+        }
+
+        @Override
+        public E set(int index, E e) {
+            checkIndex(index);
+            checkForComodification();
+            E oldValue = (E) elementData[offset + index];
+            elementData[offset + index] = e;
+            if (journal != null) {
+                journal.record(ListJournal.Op.SET, offset + index, e);
+            }
+            return oldValue;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public void add(int index, E e) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Invalid index");
+            }
+            checkForComodification();
+            MyArrayList.this.add(offset + index, e);
+            updateSizeAndModCount(1);
+        }
+
+        @Override
+        public E remove(int index) {
+            checkIndex(index);
+            checkForComodification();
+            E oldValue = MyArrayList.this.remove(offset + index);
+            updateSizeAndModCount(-1);
+            return oldValue;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            MyArrayList.this.removeRange(offset + fromIndex, offset + toIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> c) {
+            return addAll(size, c);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends E> c) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Invalid index");
+            }
+            checkForComodification();
+            Object[] a = c.toArray();
+            if (!insert(offset + index, a, a.length)) {
+                return false;
+            }
+            updateSizeAndModCount(a.length);
+            return true;
+        }
+
+        @Override
+        public List<E> subList(int fromIndex, int toIndex) {
+            checkSubListRange(fromIndex, toIndex, size);
+            checkForComodification();
+            return new SubList(this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Invalid index");
+            }
+        }
+
+        private void checkForComodification() {
+            if (MyArrayList.this.modCount != this.modCount) {
+                throw concurrentModification();
+            }
+        }
+
+        private void updateSizeAndModCount(int sizeChange) {
+            SubList view = this;
+            do {
+                view.size += sizeChange;
+                view.modCount = MyArrayList.this.modCount;
+                view = view.parent;
+            } while (view != null);
+        }
+    }
+
+    /**
+     * Index-based split-by-two spliterator over elementData.
+     * The range and modCount are bound on first use, so the list may be modified until then
+     */
+    private final class ArrayListSpliterator implements Spliterator<E> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        private ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            int hi = fence;
+            if (hi < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            return lo >= mid ? null : new ArrayListSpliterator(lo, index = mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            if (i < hi) {
+                index = i + 1;
+                action.accept((E) elementData[i]);
+                if (modCount != expectedModCount) {
+                    throw concurrentModification();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            Object[] a = elementData;
+            int hi = getFence();
+            int i = index;
+            index = hi;
+            if (hi > a.length) {
+                throw concurrentModification();
+            }
+            for (; i < hi; i++) {
+                action.accept((E) a[i]);
+            }
+            if (modCount != expectedModCount) {
+                throw concurrentModification();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Applies an operator to a range of the backing array, halving the range until it
+     * fits the parallel threshold
+     */
+    private static final class ReplaceAllTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Object[] es;
+        private final int from;
+        private final int to;
+        private final UnaryOperator<E> operator;
+
+        ReplaceAllTask(Object[] es, int from, int to, UnaryOperator<E> operator) {
+            this.es = es;
+            this.from = from;
+            this.to = to;
+            this.operator = operator;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    es[i] = operator.apply((E) es[i]);
+                }
+                return;
             }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ReplaceAllTask<>(es, from, mid, operator),
+                    new ReplaceAllTask<>(es, mid, to, operator));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,208 @@
+package com.learning.list;
+
+/**
+ * A pool of {@link MyArrayList} instances and their backing arrays for short-lived lists.
+ * <p>
+ * Buffers are kept per thread in buckets by power-of-two size class, so acquiring and
+ * releasing never contend on a lock. A pooled list takes its buffer from the pool and,
+ * when it grows, swaps the full buffer for a larger pooled one and hands the old one back.
+ * Only the slots that were in use are nulled out before a buffer is reused.
+ * <p>
+ * Lifecycle: {@link #acquire(int)} a list, use it, then {@link #release(MyArrayList)} it.
+ * A released list is reset to empty and must not be used by the caller any more,
+ * because the pool hands the same instance out again.
+ */
+public class MyArrayListPool {
+    /**
+     * Smallest size class, as a power of two
+     */
+    private static final int MIN_SHIFT = 4;
+    /**
+     * Default largest buffer kept by the pool
+     */
+    private static final int DEFAULT_MAX_CAPACITY = 1 << 20;
+    /**
+     * Default number of buffers kept per size class and thread
+     */
+    private static final int DEFAULT_DEPTH = 8;
+    /**
+     * Shared empty buffer of released lists
+     */
+    private static final Object[] EMPTY = new Object[0];
+
+    /**
+     * Largest size class that is pooled, as a power of two
+     */
+    private final int maxShift;
+    /**
+     * Number of buffers and list instances kept per size class and thread
+     */
+    private final int depth;
+    /**
+     * Buckets of the current thread
+     */
+    private final ThreadLocal<Cache> cache;
+
+    /**
+     * Constructs a pool that keeps buffers of up to 2^20 slots, eight per size class and thread
+     */
+    public MyArrayListPool() {
+        this(DEFAULT_MAX_CAPACITY, DEFAULT_DEPTH);
+    }
+
+    /**
+     * Constructs a pool with the given limits
+     *
+     * @param maxCapacity largest buffer that is kept, rounded up to a power of two
+     * @param depth       number of buffers kept per size class and thread, and number of idle list instances
+     * @throws IllegalArgumentException if maxCapacity or depth is not positive or maxCapacity is too large
+     */
+    public MyArrayListPool(int maxCapacity, int depth) {
+        if (maxCapacity <= 0 || maxCapacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid array capacity");
+        }
+        if (depth <= 0) {
+            throw new IllegalArgumentException("Invalid pool depth");
+        }
+        this.maxShift = Math.max(MIN_SHIFT, ceilShift(maxCapacity));
+        this.depth = depth;
+        this.cache = ThreadLocal.withInitial(() -> new Cache(maxShift - MIN_SHIFT + 1, depth));
+    }
+
+    /**
+     * Returns an empty list with a pooled buffer of the smallest size class
+     *
+     * @param <E> the type of elements in the list
+     * @return an empty pooled list
+     */
+    public <E> MyArrayList<E> acquire() {
+        return acquire(1 << MIN_SHIFT);
+    }
+
+    /**
+     * Returns an empty list whose pooled buffer holds at least the given number of elements
+     *
+     * @param capacity the minimum capacity of the list
+     * @param <E>      the type of elements in the list
+     * @return an empty pooled list
+     * @throws IllegalArgumentException if capacity is negative or too large
+     */
+    @SuppressWarnings("unchecked")
+    public <E> MyArrayList<E> acquire(int capacity) {
+        if (capacity < 0 || capacity > MyArrayList.MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Invalid array capacity");
+        }
+        Cache c = cache.get();
+        Object[] buffer = take(capacity);
+        if (c.idle > 0) {
+            MyArrayList<E> list = (MyArrayList<E>) c.lists[--c.idle];
+            c.lists[c.idle] = null;
+            list.detach(buffer);
+            list.setReleased(false);
+            return list;
+        }
+        return new MyArrayList<>(this, buffer);
+    }
+
+    /**
+     * Resets the list to empty and returns it and its buffer to the pool.
+     * The caller must not use the list afterwards
+     *
+     * @param list a list acquired from this pool
+     * @throws IllegalArgumentException if the list was not acquired from this pool
+     * @throws IllegalStateException    if the list has already been released
+     */
+    public void release(MyArrayList<?> list) {
+        if (list.pool() != this) {
+            throw new IllegalArgumentException("List does not belong to this pool");
+        }
+        if (list.isReleased()) {
+            throw new IllegalStateException("List is already released");
+        }
+        list.setReleased(true);
+        recycle(list.detach(EMPTY), 0);
+        Cache c = cache.get();
+        if (c.idle < depth) {
+            c.lists[c.idle++] = list;
+        }
+    }
+
+    /**
+     * Returns the number of buffers the current thread keeps for the size class of the given capacity
+     *
+     * @param capacity a capacity within the size class
+     * @return the number of idle buffers in that size class
+     */
+    public int pooledBuffers(int capacity) {
+        int shift = floorShift(capacity);
+        if (shift < MIN_SHIFT || shift > maxShift) {
+            return 0;
+        }
+        return cache.get().counts[shift - MIN_SHIFT];
+    }
+
+    /**
+     * Returns a cleared buffer of at least minCapacity slots, rounded up to its size class
+     */
+    Object[] take(int minCapacity) {
+        int shift = ceilShift(Math.max(minCapacity, 1 << MIN_SHIFT));
+        if (shift > maxShift) {
+            return new Object[minCapacity];
+        }
+        Cache c = cache.get();
+        int bucket = shift - MIN_SHIFT;
+        int count = c.counts[bucket];
+        if (count == 0) {
+            return new Object[1 << shift];
+        }
+        Object[] buffer = c.buffers[bucket][--count];
+        c.buffers[bucket][count] = null;
+        c.counts[bucket] = count;
+        return buffer;
+    }
+
+    /**
+     * Takes back a buffer whose first used slots may still hold elements.
+     * Only those slots are nulled out; buffers outside the pooled size classes are dropped
+     */
+    void recycle(Object[] buffer, int used) {
+        int shift = floorShift(buffer.length);
+        if (shift < MIN_SHIFT || shift > maxShift) {
+            return;
+        }
+        Cache c = cache.get();
+        int bucket = shift - MIN_SHIFT;
+        int count = c.counts[bucket];
+        if (count < depth) {
+            for (int i = 0; i < used; i++) {
+                buffer[i] = null;
+            }
+            c.buffers[bucket][count] = buffer;
+            c.counts[bucket] = count + 1;
+        }
+    }
+
+    private static int floorShift(int n) {
+        return n <= 0 ? -1 : 31 - Integer.numberOfLeadingZeros(n);
+    }
+
+    private static int ceilShift(int n) {
+        return n <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(n - 1);
+    }
+
+    /**
+     * Per-thread buckets of idle buffers and list instances
+     */
+    private static final class Cache {
+        private final Object[][][] buffers;
+        private final int[] counts;
+        private final MyArrayList<?>[] lists;
+        private int idle;
+
+        Cache(int sizeClasses, int depth) {
+            this.buffers = new Object[sizeClasses][depth][];
+            this.counts = new int[sizeClasses];
+            this.lists = new MyArrayList<?>[depth];
+        }
+    }
+}
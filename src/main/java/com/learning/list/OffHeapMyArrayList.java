@@ -0,0 +1,339 @@
+package com.learning.list;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A variant of {@link MyArrayList} that keeps its elements outside the Java heap.
+ * Every element is serialized by an {@link ElementCodec} into a fixed-width slot of a
+ * direct {@link ByteBuffer}, so the garbage collector never scans the stored data.
+ * <p>
+ * The native memory is released by {@link #close()}, and the old region is released
+ * right away every time the list grows. A closed list throws IllegalStateException.
+ * A single direct buffer is limited to 2 GB, so the capacity is at most
+ * {@code Integer.MAX_VALUE / codec.width()} elements.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class OffHeapMyArrayList<E> implements Iterable<E>, AutoCloseable {
+    /**
+     * Default initial capacity of the list
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Codec that serializes elements into slots
+     */
+    private final ElementCodec<E> codec;
+    /**
+     * Number of bytes per slot
+     */
+    private final int width;
+    /**
+     * The largest number of slots a single buffer can hold
+     */
+    private final int maxCapacity;
+    /**
+     * Policy that decides the new capacity when the buffer is full
+     */
+    private final GrowthPolicy growthPolicy;
+    /**
+     * Native buffer into which the elements are stored, null once closed
+     */
+    private ByteBuffer buffer;
+    /**
+     * The size of the list (number of elements it contains)
+     */
+    private int size = 0;
+    /**
+     * Counter for modifications to support fail-fast iteration
+     */
+    private int modCount = 0;
+
+    /**
+     * Constructs an empty list with default initial capacity
+     *
+     * @param codec the codec used to store elements
+     * @throws NullPointerException if codec is null
+     */
+    public OffHeapMyArrayList(ElementCodec<E> codec) {
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity
+     *
+     * @param codec    the codec used to store elements
+     * @param capacity the initial capacity of the list
+     * @throws IllegalArgumentException if capacity is negative or too large, or the codec width is not positive
+     * @throws NullPointerException     if codec is null
+     */
+    public OffHeapMyArrayList(ElementCodec<E> codec, int capacity) {
+        this(codec, capacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity and growth policy
+     *
+     * @param codec        the codec used to store elements
+     * @param capacity     the initial capacity of the list
+     * @param growthPolicy the policy used to grow the buffer when it is full
+     * @throws IllegalArgumentException if capacity is negative or too large, or the codec width is not positive
+     * @throws NullPointerException     if codec or growthPolicy is null
+     */
+    public OffHeapMyArrayList(ElementCodec<E> codec, int capacity, GrowthPolicy growthPolicy) {
+        this.codec = Objects.requireNonNull(codec);
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+        this.width = codec.width();
+        if (width <= 0) {
+            throw new IllegalArgumentException("Invalid codec width");
+        }
+        this.maxCapacity = Integer.MAX_VALUE / width;
+        if (capacity < 0 || capacity > maxCapacity) {
+            throw new IllegalArgumentException("Invalid array capacity");
+        }
+        buffer = allocate(capacity);
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains no elements
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends the specified element to the end of this list
+     *
+     * @param e element to be appended to this list
+     * @return true if the element was added successfully
+     * @throws IllegalStateException if the list is closed
+     */
+    public boolean add(E e) {
+        return add(size, e);
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * If the codec cannot encode the element, the shifted tail is moved back and the list is unchanged
+     *
+     * @param index index at which the element is to be inserted
+     * @param e     element to be inserted
+     * @return true if the element was added successfully
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalStateException     if the list is closed
+     */
+    public boolean add(int index, E e) {
+        ByteBuffer b = buffer();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (size == b.capacity() / width) {
+            b = grow(size + 1);
+        }
+        if (index < size) {
+            b.put((index + 1) * width, b, index * width, (size - index) * width);
+        }
+        try {
+            codec.write(b, index * width, e);
+        } catch (RuntimeException ex) {
+            if (index < size) {
+                b.put(index * width, b, (index + 1) * width, (size - index) * width);
+            }
+            throw ex;
+        }
+        modCount++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalStateException     if the list is closed
+     */
+    public E get(int index) {
+        ByteBuffer b = buffer();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return codec.read(b, index * width);
+    }
+
+    /**
+     * Replaces the element at the specified position in this list
+     *
+     * @param index index of element to replace
+     * @param e     element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalStateException     if the list is closed
+     */
+    public E set(int index, E e) {
+        ByteBuffer b = buffer();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        E oldValue = codec.read(b, index * width);
+        codec.write(b, index * width, e);
+        return oldValue;
+    }
+
+    /**
+     * Removes the element at the specified position in this list
+     *
+     * @param index index of element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalStateException     if the list is closed
+     */
+    public E remove(int index) {
+        ByteBuffer b = buffer();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        E oldValue = codec.read(b, index * width);
+        b.put(index * width, b, (index + 1) * width, (size - index - 1) * width);
+        size--;
+        modCount++;
+        return oldValue;
+    }
+
+    /**
+     * Removes all elements from this list. The native memory is kept for reuse
+     *
+     * @throws IllegalStateException if the list is closed
+     */
+    public void clear() {
+        buffer();
+        if (size != 0) {
+            modCount++;
+            size = 0;
+        }
+    }
+
+    /**
+     * Releases the native memory of this list. Calling close more than once has no effect
+     */
+    @Override
+    public void close() {
+        ByteBuffer b = buffer;
+        if (b != null) {
+            buffer = null;
+            size = 0;
+            modCount++;
+            DirectBuffers.free(b);
+        }
+    }
+
+    /**
+     * Returns true if close has been called
+     *
+     * @return true if the native memory has been released
+     */
+    public boolean isClosed() {
+        return buffer == null;
+    }
+
+    private ByteBuffer buffer() {
+        ByteBuffer b = buffer;
+        if (b == null) {
+            throw new IllegalStateException("List is closed");
+        }
+        return b;
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * width).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Moves the elements into a larger native region and frees the old one
+     */
+    private ByteBuffer grow(int minCapacity) {
+        if (minCapacity > maxCapacity) {
+            throw new OutOfMemoryError("Required buffer size too large");
+        }
+        ByteBuffer old = buffer;
+        int newCapacity = Math.min(MyArrayList.newCapacity(growthPolicy, old.capacity() / width, minCapacity), maxCapacity);
+        ByteBuffer b = allocate(newCapacity);
+        b.put(0, old, 0, size * width);
+        buffer = b;
+        DirectBuffers.free(old);
+        return b;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list
+     *
+     * @return an Iterator over the elements
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Iterator implementation for OffHeapMyArrayList
+     */
+    private class Itr implements Iterator<E> {
+        private int cursor;
+        private int lastRet = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            return codec.read(buffer(), (lastRet = i) * width);
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException("No element to remove");
+            }
+            checkForComodification();
+            try {
+                OffHeapMyArrayList.this.remove(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            } catch (IndexOutOfBoundsException ex) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,632 @@
+package com.learning.list;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * An immutable list stored as a 32-way trie with a separate tail array.
+ * <p>
+ * {@link #add}, {@link #set} and {@link #removeLast} return a new version in O(log32 n)
+ * that shares all but one path of nodes with the old version, so keeping many versions
+ * costs little more than one. Appends go to the tail and touch the trie only once every
+ * 32 elements. {@link #remove(int)} keeps the prefix before the index and rebuilds the rest.
+ * <p>
+ * A {@link Builder} edits the nodes it created in place for fast bulk construction,
+ * and seals them when {@link Builder#build()} is called.
+ *
+ * @param <E> the type of elements in this list
+ */
+public final class PersistentList<E> implements Iterable<E> {
+    /**
+     * Bits of the index consumed per trie level
+     */
+    private static final int SHIFT = 5;
+    /**
+     * Number of children per node and elements per leaf
+     */
+    private static final int WIDTH = 1 << SHIFT;
+    private static final int MASK = WIDTH - 1;
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final PersistentList<?> EMPTY = new PersistentList<>(0, SHIFT, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    /**
+     * Bit shift of the root level
+     */
+    private final int shift;
+    private final Node root;
+    /**
+     * The last up to 32 elements, not yet pushed into the trie
+     */
+    private final Object[] tail;
+
+    private PersistentList(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty list
+     *
+     * @param <E> the type of elements in the list
+     * @return the empty list
+     */
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list containing the elements of the collection, for example a {@link MyArrayList},
+     * in iteration order
+     *
+     * @param c   the collection whose elements are copied
+     * @param <E> the type of elements in the list
+     * @return a new list with the elements of the collection
+     * @throws NullPointerException if the specified collection is null
+     */
+    public static <E> PersistentList<E> from(Collection<? extends E> c) {
+        Builder<E> builder = builder();
+        for (Object e : c.toArray()) {
+            builder.add((E) e);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder that starts from the empty list
+     *
+     * @param <E> the type of elements in the list
+     * @return a new builder
+     */
+    public static <E> Builder<E> builder() {
+        return new Builder<>(empty());
+    }
+
+    /**
+     * Returns a builder that starts from this list. This list is not changed by the builder
+     *
+     * @return a new builder
+     */
+    public Builder<E> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains no elements
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E get(int index) {
+        checkIndex(index, size);
+        return (E) leafFor(index, size, shift, root, tail)[index & MASK];
+    }
+
+    /**
+     * Returns a new list with the element appended
+     *
+     * @param e element to be appended
+     * @return a new version of this list
+     */
+    public PersistentList<E> add(E e) {
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = e;
+            return new PersistentList<>(size + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> SHIFT) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += SHIFT;
+        } else {
+            newRoot = pushTail(null, size, shift, root, tailNode);
+        }
+        return new PersistentList<>(size + 1, newShift, newRoot, new Object[]{e});
+    }
+
+    /**
+     * Returns a new list with the element at the specified position replaced
+     *
+     * @param index index of the element to replace
+     * @param e     element to be stored at the specified position
+     * @return a new version of this list
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public PersistentList<E> set(int index, E e) {
+        checkIndex(index, size);
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = e;
+            return new PersistentList<>(size, shift, root, newTail);
+        }
+        return new PersistentList<>(size, shift, assoc(null, shift, root, index, e), tail);
+    }
+
+    /**
+     * Returns a new list without the last element
+     *
+     * @return a new version of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public PersistentList<E> removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset(size) > 1) {
+            return new PersistentList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = leafFor(size - 2, size, shift, root, tail).clone();
+        Node newRoot = popTail(null, size, shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > SHIFT && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= SHIFT;
+        }
+        return new PersistentList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns a new list without the element at the specified position. The nodes before the
+     * index are shared; the elements after it are appended again, so the cost is O(size - index)
+     *
+     * @param index index of the element to remove
+     * @return a new version of this list
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size);
+        if (index == size - 1) {
+            return removeLast();
+        }
+        Builder<E> builder = toBuilder();
+        while (builder.size() > index) {
+            builder.removeLast();
+        }
+        for (int i = index + 1; i < size; i++) {
+            builder.add(get(i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list in proper sequence
+     *
+     * @return a new array containing all of the elements in this list
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i += WIDTH) {
+            System.arraycopy(leafFor(i, size, shift, root, tail), 0, result, i, Math.min(WIDTH, size - i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new MyArrayList containing the elements of this list
+     *
+     * @return a mutable copy of this list
+     */
+    public MyArrayList<E> toMyArrayList() {
+        MyArrayList<E> list = new MyArrayList<>(size);
+        list.addAll((E[]) toArray());
+        return list;
+    }
+
+    /**
+     * Performs the given action for each element of this list, one leaf array at a time
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the specified action is null
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < size; i += WIDTH) {
+            Object[] leaf = leafFor(i, size, shift, root, tail);
+            int end = Math.min(WIDTH, size - i);
+            for (int j = 0; j < end; j++) {
+                action.accept((E) leaf[j]);
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements in this list. The list never changes,
+     * so the iterator cannot fail and does not support removal
+     *
+     * @return an Iterator over the elements
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public E next() {
+                int i = cursor;
+                if (i >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((i & MASK) == 0) {
+                    leaf = leafFor(i, size, shift, root, tail);
+                }
+                cursor = i + 1;
+                return (E) leaf[i & MASK];
+            }
+        };
+    }
+
+    /**
+     * Compares the specified object with this list for equality. Two persistent lists are equal
+     * if they contain equal elements in the same order
+     *
+     * @param o the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof PersistentList)) {
+            return false;
+        }
+        PersistentList<?> other = (PersistentList<?>) o;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i += WIDTH) {
+            Object[] a = leafFor(i, size, shift, root, tail);
+            Object[] b = leafFor(i, size, other.shift, other.root, other.tail);
+            int end = Math.min(WIDTH, size - i);
+            if (a != b && !Arrays.equals(a, 0, end, b, 0, end)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code value for this list, as defined by {@link java.util.List#hashCode()}
+     *
+     * @return the hash code value for this list
+     */
+    @Override
+    public int hashCode() {
+        int[] hash = {1};
+        forEach(e -> hash[0] = 31 * hash[0] + Objects.hashCode(e));
+        return hash[0];
+    }
+
+    /**
+     * Returns a string representation of this list in the form [e1, e2, ...]
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+    }
+
+    /**
+     * Returns the index of the first element stored in the tail
+     */
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> SHIFT) << SHIFT;
+    }
+
+    /**
+     * Returns the leaf array that holds the element at index
+     */
+    private static Object[] leafFor(int index, int size, int shift, Node root, Object[] tail) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= SHIFT) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    /**
+     * Returns the node itself if the owner may edit it in place, otherwise a copy owned by the owner.
+     * A null owner never edits in place
+     */
+    private static Node editable(Object owner, Node node) {
+        if (owner != null && node.owner == owner) {
+            return node;
+        }
+        return new Node(owner, node.array.clone());
+    }
+
+    /**
+     * Builds a chain of single-child nodes down to the given node
+     */
+    private static Node newPath(Object owner, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node path = new Node(owner, new Object[WIDTH]);
+        path.array[0] = newPath(owner, level - SHIFT, node);
+        return path;
+    }
+
+    /**
+     * Inserts a full tail as the last leaf of the trie of a list of the given size
+     */
+    private static Node pushTail(Object owner, int size, int level, Node parent, Node tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Node result = editable(owner, parent);
+        Node child;
+        if (level == SHIFT) {
+            child = tailNode;
+        } else {
+            Node existing = (Node) parent.array[subIndex];
+            child = existing != null
+                    ? pushTail(owner, size, level - SHIFT, existing, tailNode)
+                    : newPath(owner, level - SHIFT, tailNode);
+        }
+        result.array[subIndex] = child;
+        return result;
+    }
+
+    /**
+     * Replaces the element at index in the trie, copying the path unless the owner may edit it
+     */
+    private static Node assoc(Object owner, int level, Node node, int index, Object e) {
+        Node result = editable(owner, node);
+        if (level == 0) {
+            result.array[index & MASK] = e;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result.array[subIndex] = assoc(owner, level - SHIFT, (Node) node.array[subIndex], index, e);
+        }
+        return result;
+    }
+
+    /**
+     * Removes the last leaf from the trie of a list of the given size, returning null for an empty node
+     */
+    private static Node popTail(Object owner, int size, int level, Node node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > SHIFT) {
+            Node child = popTail(owner, size, level - SHIFT, (Node) node.array[subIndex]);
+            if (child == null && subIndex == 0) {
+                return null;
+            }
+            Node result = editable(owner, node);
+            result.array[subIndex] = child;
+            return result;
+        }
+        if (subIndex == 0) {
+            return null;
+        }
+        Node result = editable(owner, node);
+        result.array[subIndex] = null;
+        return result;
+    }
+
+    /**
+     * Trie node. Nodes created by a builder carry its owner token and are edited in place
+     * by that builder until it is built; all other nodes are never modified
+     */
+    private static final class Node {
+        private final Object owner;
+        private final Object[] array;
+
+        Node(Object owner, Object[] array) {
+            this.owner = owner;
+            this.array = array;
+        }
+    }
+
+    /**
+     * Mutable builder of a {@link PersistentList}. It edits the nodes it created in place and
+     * copies shared nodes only on first write. A builder is not thread-safe and can be built once
+     *
+     * @param <E> the type of elements in the list
+     */
+    public static final class Builder<E> {
+        private Object owner = new Object();
+        private int size;
+        private int shift;
+        private Node root;
+        /**
+         * Always a full-width array owned by this builder
+         */
+        private Object[] tail;
+
+        private Builder(PersistentList<E> list) {
+            this.size = list.size;
+            this.shift = list.shift;
+            this.root = editable(owner, list.root);
+            this.tail = Arrays.copyOf(list.tail, WIDTH);
+        }
+
+        /**
+         * Returns the number of elements added so far
+         *
+         * @return the number of elements in this builder
+         */
+        public int size() {
+            ensureOpen();
+            return size;
+        }
+
+        /**
+         * Returns the element at the specified position
+         *
+         * @param index index of the element to return
+         * @return the element at the specified position
+         * @throws IndexOutOfBoundsException if index is out of range
+         */
+        public E get(int index) {
+            ensureOpen();
+            checkIndex(index, size);
+            return (E) leafFor(index, size, shift, root, tail)[index & MASK];
+        }
+
+        /**
+         * Appends the specified element
+         *
+         * @param e element to be appended
+         * @return this builder
+         */
+        public Builder<E> add(E e) {
+            ensureOpen();
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = e;
+                size++;
+                return this;
+            }
+            Node tailNode = new Node(owner, tail);
+            tail = new Object[WIDTH];
+            tail[0] = e;
+            if ((size >>> SHIFT) > (1 << shift)) {
+                Node newRoot = new Node(owner, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(owner, shift, tailNode);
+                root = newRoot;
+                shift += SHIFT;
+            } else {
+                root = pushTail(owner, size, shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Appends all elements of the collection in iteration order
+         *
+         * @param c collection containing elements to be added
+         * @return this builder
+         * @throws NullPointerException if the specified collection is null
+         */
+        public Builder<E> addAll(Collection<? extends E> c) {
+            for (Object e : c.toArray()) {
+                add((E) e);
+            }
+            return this;
+        }
+
+        /**
+         * Replaces the element at the specified position
+         *
+         * @param index index of the element to replace
+         * @param e     element to be stored at the specified position
+         * @return this builder
+         * @throws IndexOutOfBoundsException if index is out of range
+         */
+        public Builder<E> set(int index, E e) {
+            ensureOpen();
+            checkIndex(index, size);
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = e;
+            } else {
+                root = assoc(owner, shift, root, index, e);
+            }
+            return this;
+        }
+
+        /**
+         * Removes the last element
+         *
+         * @return this builder
+         * @throws NoSuchElementException if this builder is empty
+         */
+        public Builder<E> removeLast() {
+            ensureOpen();
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            if (size == 1 || size - tailOffset(size) > 1) {
+                tail[(size - 1) & MASK] = null;
+                size--;
+                return this;
+            }
+            Object[] newTail = leafFor(size - 2, size, shift, root, tail).clone();
+            Node newRoot = popTail(owner, size, shift, root);
+            if (newRoot == null) {
+                newRoot = new Node(owner, new Object[WIDTH]);
+            }
+            if (shift > SHIFT && newRoot.array[1] == null) {
+                newRoot = editable(owner, (Node) newRoot.array[0]);
+                shift -= SHIFT;
+            }
+            root = newRoot;
+            tail = newTail;
+            size--;
+            return this;
+        }
+
+        /**
+         * Seals the nodes of this builder and returns them as a persistent list.
+         * The builder cannot be used afterwards
+         *
+         * @return the built list
+         * @throws IllegalStateException if the builder was already built
+         */
+        public PersistentList<E> build() {
+            ensureOpen();
+            owner = null;
+            if (size == 0) {
+                return empty();
+            }
+            return new PersistentList<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+
+        private void ensureOpen() {
+            if (owner == null) {
+                throw new IllegalStateException("Builder is closed");
+            }
+        }
+    }
+}
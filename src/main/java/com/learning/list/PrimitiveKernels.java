@@ -0,0 +1,57 @@
+package com.learning.list;
+
+/**
+ * Search, count, fill and filter loops over ranges of primitive arrays, used by the
+ * primitive lists. Two implementations exist: {@link ScalarKernels}, always available,
+ * and VectorKernels built on jdk.incubator.vector, compiled only with the {@code vector}
+ * profile and used only when the JVM runs with {@code --add-modules jdk.incubator.vector}.
+ * <p>
+ * Ranges are [from, to). Counting and filtering select the values v with min &lt;= v &lt;= max.
+ * Doubles are compared with ==, so NaN is never found, counted or filtered.
+ */
+interface PrimitiveKernels {
+    /**
+     * The fastest implementation available in this JVM
+     */
+    PrimitiveKernels INSTANCE = load();
+
+    int indexOf(int[] a, int from, int to, int key);
+
+    int indexOf(long[] a, int from, int to, long key);
+
+    int indexOf(double[] a, int from, int to, double key);
+
+    int count(int[] a, int from, int to, int min, int max);
+
+    int count(long[] a, int from, int to, long min, long max);
+
+    int count(double[] a, int from, int to, double min, double max);
+
+    void fill(int[] a, int from, int to, int value);
+
+    void fill(long[] a, int from, int to, long value);
+
+    void fill(double[] a, int from, int to, double value);
+
+    /**
+     * Copies the selected values of a[from, to) to dst starting at dstPos, which must have room
+     * for all of them, and returns how many were copied
+     */
+    int filter(int[] a, int from, int to, int min, int max, int[] dst, int dstPos);
+
+    int filter(long[] a, int from, int to, long min, long max, long[] dst, int dstPos);
+
+    int filter(double[] a, int from, int to, double min, double max, double[] dst, int dstPos);
+
+    /**
+     * Returns VectorKernels if it was compiled in and the incubator module is present, otherwise ScalarKernels
+     */
+    private static PrimitiveKernels load() {
+        try {
+            Class<?> vectorKernels = Class.forName("com.learning.list.VectorKernels");
+            return (PrimitiveKernels) vectorKernels.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarKernels();
+        }
+    }
+}
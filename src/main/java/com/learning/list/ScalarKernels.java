@@ -0,0 +1,123 @@
+package com.learning.list;
+
+import java.util.Arrays;
+
+/**
+ * Plain loop implementation of {@link PrimitiveKernels}, used when the Vector API is not available
+ */
+final class ScalarKernels implements PrimitiveKernels {
+
+    @Override
+    public int indexOf(int[] a, int from, int to, int key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(long[] a, int from, int to, long key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(double[] a, int from, int to, double key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(int[] a, int from, int to, int min, int max) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (a[i] >= min && a[i] <= max) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int count(long[] a, int from, int to, long min, long max) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (a[i] >= min && a[i] <= max) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int count(double[] a, int from, int to, double min, double max) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (a[i] >= min && a[i] <= max) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void fill(int[] a, int from, int to, int value) {
+        Arrays.fill(a, from, to, value);
+    }
+
+    @Override
+    public void fill(long[] a, int from, int to, long value) {
+        Arrays.fill(a, from, to, value);
+    }
+
+    @Override
+    public void fill(double[] a, int from, int to, double value) {
+        Arrays.fill(a, from, to, value);
+    }
+
+    @Override
+    public int filter(int[] a, int from, int to, int min, int max, int[] dst, int dstPos) {
+        int w = dstPos;
+        for (int i = from; i < to; i++) {
+            int e = a[i];
+            if (e >= min && e <= max) {
+                dst[w++] = e;
+            }
+        }
+        return w - dstPos;
+    }
+
+    @Override
+    public int filter(long[] a, int from, int to, long min, long max, long[] dst, int dstPos) {
+        int w = dstPos;
+        for (int i = from; i < to; i++) {
+            long e = a[i];
+            if (e >= min && e <= max) {
+                dst[w++] = e;
+            }
+        }
+        return w - dstPos;
+    }
+
+    @Override
+    public int filter(double[] a, int from, int to, double min, double max, double[] dst, int dstPos) {
+        int w = dstPos;
+        for (int i = from; i < to; i++) {
+            double e = a[i];
+            if (e >= min && e <= max) {
+                dst[w++] = e;
+            }
+        }
+        return w - dstPos;
+    }
+}
@@ -0,0 +1,301 @@
+package com.learning.list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A list that stores its elements in fixed-size segments under a directory array.
+ * Appending never copies elements: a full list only allocates a new segment, and only the
+ * small directory is ever copied when it grows. Random access stays O(1) through shift and mask.
+ * Indexes are long, so the list can hold more than Integer.MAX_VALUE elements.
+ * <p>
+ * Inserting or removing in the middle still moves every following element, one segment at a time.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class SegmentedArrayList<E> implements Iterable<E> {
+    /**
+     * Default number of index bits addressing an element inside a segment (16384 elements per segment)
+     */
+    private static final int DEFAULT_SEGMENT_SHIFT = 14;
+    /**
+     * Default initial length of the segment directory
+     */
+    private static final int DEFAULT_DIRECTORY_CAPACITY = 4;
+    /**
+     * Number of index bits addressing an element inside a segment
+     */
+    private final int segmentShift;
+    /**
+     * Number of elements in each segment
+     */
+    private final int segmentSize;
+    /**
+     * Mask extracting the offset inside a segment from an index
+     */
+    private final long segmentMask;
+    /**
+     * Directory of segments, segments[0..segmentCount) are allocated
+     */
+    private Object[][] segments;
+    /**
+     * Number of allocated segments
+     */
+    private int segmentCount = 0;
+    /**
+     * The size of the list (number of elements it contains)
+     */
+    private long size = 0;
+    /**
+     * Counter for modifications to support fail-fast iteration
+     */
+    private int modCount = 0;
+
+    /**
+     * Constructs an empty list with segments of 16384 elements
+     */
+    public SegmentedArrayList() {
+        this(DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Constructs an empty list with segments of {@code 1 << segmentShift} elements
+     *
+     * @param segmentShift the number of index bits addressing an element inside a segment
+     * @throws IllegalArgumentException if segmentShift is not between 1 and 30
+     */
+    public SegmentedArrayList(int segmentShift) {
+        if (segmentShift < 1 || segmentShift > 30) {
+            throw new IllegalArgumentException("Invalid segment shift");
+        }
+        this.segmentShift = segmentShift;
+        this.segmentSize = 1 << segmentShift;
+        this.segmentMask = segmentSize - 1;
+        this.segments = new Object[DEFAULT_DIRECTORY_CAPACITY][];
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains no elements
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends the specified element to the end of this list without copying existing elements
+     *
+     * @param e element to be appended to this list
+     * @return true if the element was added successfully
+     */
+    public boolean add(E e) {
+        ensureSegmentFor(size);
+        segments[segmentOf(size)][offsetOf(size)] = e;
+        modCount++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * The following elements are shifted one segment at a time
+     *
+     * @param index index at which the element is to be inserted
+     * @param e     element to be inserted
+     * @return true if the element was added successfully
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public boolean add(long index, E e) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        ensureSegmentFor(size);
+        int first = segmentOf(index);
+        int last = segmentOf(size);
+        for (int s = last; s > first; s--) {
+            Object[] segment = segments[s];
+            int moved = s == last ? offsetOf(size) : segmentSize - 1;
+            System.arraycopy(segment, 0, segment, 1, moved);
+            segment[0] = segments[s - 1][segmentSize - 1];
+        }
+        Object[] segment = segments[first];
+        int offset = offsetOf(index);
+        int end = first == last ? offsetOf(size) : segmentSize - 1;
+        System.arraycopy(segment, offset, segment, offset + 1, end - offset);
+        segment[offset] = e;
+        modCount++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return (E) segments[segmentOf(index)][offsetOf(index)];
+    }
+
+    /**
+     * Replaces the element at the specified position in this list
+     *
+     * @param index index of element to replace
+     * @param e     element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E set(long index, E e) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        Object[] segment = segments[segmentOf(index)];
+        int offset = offsetOf(index);
+        E oldValue = (E) segment[offset];
+        segment[offset] = e;
+        return oldValue;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * The following elements are shifted one segment at a time
+     *
+     * @param index index of element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E remove(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        int first = segmentOf(index);
+        int last = segmentOf(size - 1);
+        Object[] segment = segments[first];
+        int offset = offsetOf(index);
+        E oldValue = (E) segment[offset];
+        int end = first == last ? offsetOf(size - 1) : segmentSize - 1;
+        System.arraycopy(segment, offset + 1, segment, offset, end - offset);
+        for (int s = first + 1; s <= last; s++) {
+            Object[] next = segments[s];
+            segments[s - 1][segmentSize - 1] = next[0];
+            int moved = s == last ? offsetOf(size - 1) : segmentSize - 1;
+            System.arraycopy(next, 1, next, 0, moved);
+        }
+        segments[last][offsetOf(size - 1)] = null;
+        size--;
+        modCount++;
+        return oldValue;
+    }
+
+    /**
+     * Removes all elements from this list and releases its segments
+     */
+    public void clear() {
+        Arrays.fill(segments, 0, segmentCount, null);
+        segmentCount = 0;
+        if (size != 0) {
+            modCount++;
+            size = 0;
+        }
+    }
+
+    private int segmentOf(long index) {
+        return (int) (index >>> segmentShift);
+    }
+
+    private int offsetOf(long index) {
+        return (int) (index & segmentMask);
+    }
+
+    /**
+     * Allocates the segment holding the given index if it does not exist yet,
+     * growing the directory when it is full
+     */
+    private void ensureSegmentFor(long index) {
+        int segment = segmentOf(index);
+        if (segment < segmentCount) {
+            return;
+        }
+        if (segment >= MyArrayList.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required directory size too large");
+        }
+        if (segment == segments.length) {
+            segments = Arrays.copyOf(segments, MyArrayList.newCapacity(GrowthPolicy.DEFAULT, segments.length, segment + 1));
+        }
+        segments[segmentCount++] = new Object[segmentSize];
+    }
+
+    /**
+     * Returns an iterator over the elements in this list
+     *
+     * @return an Iterator over the elements
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Iterator implementation for SegmentedArrayList
+     */
+    private class Itr implements Iterator<E> {
+        private long cursor;
+        private long lastRet = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            long i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            return (E) segments[segmentOf(i)][offsetOf(lastRet = i)];
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException("No element to remove");
+            }
+            checkForComodification();
+            try {
+                SegmentedArrayList.this.remove(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            } catch (IndexOutOfBoundsException ex) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
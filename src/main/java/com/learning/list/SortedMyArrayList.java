@@ -0,0 +1,257 @@
+package com.learning.list;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A {@link MyArrayList} wrapper that keeps its elements sorted by a comparator.
+ * Lookups use binary search and cost O(log n). A single add inserts at the binary-searched
+ * position; a batch is sorted once and merged with the existing elements in one linear pass.
+ * Elements that compare equal keep their insertion order.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class SortedMyArrayList<E> implements Iterable<E> {
+    /**
+     * The sorted elements
+     */
+    private final MyArrayList<E> list;
+    /**
+     * The order of the elements
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Constructs an empty list ordered by the specified comparator
+     *
+     * @param comparator the order of the elements
+     * @throws NullPointerException if comparator is null
+     */
+    public SortedMyArrayList(Comparator<? super E> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+        this.list = new MyArrayList<>();
+    }
+
+    /**
+     * Constructs a list ordered by the specified comparator from the elements of the given list.
+     * The given list is not modified
+     *
+     * @param comparator the order of the elements
+     * @param elements   the initial elements, in any order
+     * @throws NullPointerException if comparator or elements is null
+     */
+    public SortedMyArrayList(Comparator<? super E> comparator, MyArrayList<? extends E> elements) {
+        this.comparator = Objects.requireNonNull(comparator);
+        this.list = new MyArrayList<>(elements.size());
+        list.addAll(elements);
+        list.sort(comparator);
+    }
+
+    /**
+     * Returns the comparator that orders this list
+     *
+     * @return the comparator
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Returns true if this list contains no elements
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    /**
+     * Inserts the element at its sorted position, after the elements that compare equal to it
+     *
+     * @param e element to be inserted
+     * @return true if the element was added successfully
+     */
+    public boolean add(E e) {
+        list.add(upperBound(e), e);
+        return true;
+    }
+
+    /**
+     * Adds all elements of the collection. The batch is sorted once and then merged
+     * with the existing elements in a single pass
+     *
+     * @param c collection containing elements to be added, in any order
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] batch = c.toArray();
+        Arrays.sort((E[]) batch, comparator);
+        list.mergeSorted(batch, batch.length, comparator);
+        return batch.length != 0;
+    }
+
+    /**
+     * Merges a batch that is already sorted by this list's comparator in a single linear pass
+     *
+     * @param sorted list containing the elements to be added, sorted by this list's comparator
+     * @return true if this list changed as a result of the call
+     * @throws IllegalArgumentException if the batch is not sorted
+     * @throws NullPointerException     if the specified list is null
+     */
+    public boolean addAllSorted(MyArrayList<? extends E> sorted) {
+        Object[] batch = new Object[sorted.size()];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = sorted.get(i);
+            if (i > 0 && comparator.compare((E) batch[i - 1], (E) batch[i]) > 0) {
+                throw new IllegalArgumentException("Batch is not sorted");
+            }
+        }
+        list.mergeSorted(batch, batch.length, comparator);
+        return batch.length != 0;
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E get(int index) {
+        return list.get(index);
+    }
+
+    /**
+     * Returns the index of the first element that compares equal to the key
+     *
+     * @param key element to search for
+     * @return the index of the first equal element, or -1 if there is none
+     */
+    public int indexOf(E key) {
+        int index = lowerBound(key);
+        return index < list.size() && comparator.compare(list.get(index), key) == 0 ? index : -1;
+    }
+
+    /**
+     * Returns true if this list contains an element that compares equal to the key
+     *
+     * @param key element whose presence in this list is to be tested
+     * @return true if an equal element is present
+     */
+    public boolean contains(E key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Removes the element at the specified position in this list
+     *
+     * @param index index of element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public E remove(int index) {
+        return list.remove(index);
+    }
+
+    /**
+     * Removes the first element that compares equal to the key
+     *
+     * @param key element to be removed
+     * @return true if an element was removed
+     */
+    public boolean removeElement(E key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return false;
+        }
+        list.remove(index);
+        return true;
+    }
+
+    /**
+     * Removes all elements from this list
+     */
+    public void clear() {
+        list.clear();
+    }
+
+    /**
+     * Returns a copy of the sorted elements
+     *
+     * @return a new MyArrayList containing the elements of this list in order
+     */
+    public MyArrayList<E> toMyArrayList() {
+        MyArrayList<E> copy = new MyArrayList<>(list.size());
+        copy.addAll(list);
+        return copy;
+    }
+
+    /**
+     * Performs the given action for each element in sorted order
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the specified action is null
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        list.forEach(action);
+    }
+
+    /**
+     * Returns an iterator over the elements in sorted order
+     *
+     * @return an Iterator over the elements
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return list.iterator();
+    }
+
+    /**
+     * Returns the index of the first element not less than the key
+     */
+    private int lowerBound(E key) {
+        int lo = 0;
+        int hi = list.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(list.get(mid), key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the index of the first element greater than the key
+     */
+    private int upperBound(E key) {
+        int lo = 0;
+        int hi = list.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(list.get(mid), key) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
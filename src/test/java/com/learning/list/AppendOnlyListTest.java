@@ -0,0 +1,187 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AppendOnlyListTest {
+    private static final int PRODUCERS = 8;
+    private static final int APPENDS = 50_000;
+    private AppendOnlyList<Long> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new AppendOnlyList<>(4);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 31})
+    void shouldThrowIllegalArgumentException_when_segmentShiftIsWrong(int shift) {
+        assertThrows(IllegalArgumentException.class, () -> new AppendOnlyList<>(shift));
+    }
+
+    /**
+     * single thread constraints:
+     * add -> returns consecutive indexes across segment boundaries;
+     * get beyond size -> throw IndexOutOfBoundsException;
+     * null element -> throw NullPointerException;
+     * iterator/forEach -> published prefix at the time of the call;
+     */
+    @Nested
+    class SingleThreadTests {
+
+        @Test
+        void shouldAppendAcrossSegments() {
+            for (long i = 0; i < 1000; i++) {
+                assertEquals(i, list.add(i));
+            }
+
+            assertEquals(1000, list.size());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i, list.get(i));
+                assertEquals(i, list.tryGet(i));
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(1000));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.tryGet(1000));
+        }
+
+        @Test
+        void shouldThrowNullPointerException_when_elementIsNull() {
+            assertThrows(NullPointerException.class, () -> list.add(null));
+            assertTrue(list.isEmpty());
+        }
+
+        @Test
+        void shouldIterateOverPrefixAtCallTime() {
+            list.add(1L);
+            list.add(2L);
+            Iterator<Long> iterator = list.iterator();
+            list.add(3L);
+
+            assertEquals(1L, iterator.next());
+            assertEquals(2L, iterator.next());
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+
+            List<Long> visited = new ArrayList<>();
+            list.forEach(visited::add);
+            assertEquals(List.of(1L, 2L, 3L), visited);
+        }
+    }
+
+    /**
+     * contention constraints:
+     * concurrent producers -> every element stored exactly once, no index handed out twice;
+     * each producer's elements keep their order;
+     * concurrent readers -> never see a null below size(), size() never decreases;
+     */
+    @Nested
+    class StressTests {
+
+        @Test
+        void shouldKeepEveryElement_when_producersAppendConcurrently() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<int[]>> futures = new ArrayList<>();
+            for (int p = 0; p < PRODUCERS; p++) {
+                long producer = p;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int[] indexes = new int[APPENDS];
+                    for (int i = 0; i < APPENDS; i++) {
+                        indexes[i] = list.add(producer * APPENDS + i);
+                    }
+                    return indexes;
+                }));
+            }
+            start.countDown();
+
+            int[][] indexesByProducer = new int[PRODUCERS][];
+            for (int p = 0; p < PRODUCERS; p++) {
+                indexesByProducer[p] = futures.get(p).get(60, TimeUnit.SECONDS);
+            }
+
+            boolean[] taken = new boolean[PRODUCERS * APPENDS];
+            for (int p = 0; p < PRODUCERS; p++) {
+                int[] indexes = indexesByProducer[p];
+                for (int i = 0; i < APPENDS; i++) {
+                    assertFalse(taken[indexes[i]], "index handed out twice");
+                    taken[indexes[i]] = true;
+                    assertEquals((long) p * APPENDS + i, list.get(indexes[i]));
+                    if (i > 0) {
+                        assertTrue(indexes[i] > indexes[i - 1]);
+                    }
+                }
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(PRODUCERS * APPENDS, list.size());
+        }
+
+        @Test
+        void shouldOnlyExposePublishedElements_when_readingDuringAppends() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + 2);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicBoolean running = new AtomicBoolean(true);
+            List<Future<?>> producers = new ArrayList<>();
+            for (int p = 0; p < PRODUCERS; p++) {
+                producers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < APPENDS; i++) {
+                        list.add((long) i);
+                    }
+                    return null;
+                }));
+            }
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    start.await();
+                    int lastSize = 0;
+                    while (running.get()) {
+                        int size = list.size();
+                        assertTrue(size >= lastSize, "size went backwards");
+                        for (int i = lastSize; i < size; i++) {
+                            assertNotNull(list.get(i));
+                        }
+                        lastSize = size;
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> producer : producers) {
+                producer.get(60, TimeUnit.SECONDS);
+            }
+            running.set(false);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+            long[] counts = new long[APPENDS];
+            list.forEach(value -> counts[value.intValue()]++);
+            for (long count : counts) {
+                assertEquals(PRODUCERS, count);
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircularArrayListTest {
+    private final String elementDataFieldName = "elementData";
+    private final String headFieldName = "head";
+    private CircularArrayList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new CircularArrayList<>(4);
+    }
+
+    @Nested
+    class CapacityValidatorTest {
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, Integer.MIN_VALUE, Integer.MAX_VALUE - 7})
+        void shouldThrowIllegalArgumentException_when_capacityIsWrong(int capacity) {
+            assertThrows(IllegalArgumentException.class, () -> new CircularArrayList<>(capacity));
+        }
+    }
+
+    /**
+     * head operations constraints:
+     * removing the first element only moves the head, nothing is shifted;
+     * the buffer wraps around instead of growing while there is room;
+     */
+    @Nested
+    class HeadOperationTests {
+
+        @Test
+        void shouldMoveHead_when_removingFirst() throws NoSuchFieldException, IllegalAccessException {
+            list.add(1);
+            list.add(2);
+            list.add(3);
+
+            assertEquals(1, list.removeFirst());
+
+            Object[] internalArray = (Object[]) getFieldValue(list, elementDataFieldName);
+            assertEquals(1, getFieldValue(list, headFieldName));
+            assertNull(internalArray[0]);
+            assertEquals(2, internalArray[1]);
+            assertEquals(2, list.get(0));
+            assertEquals(3, list.get(1));
+        }
+
+        @Test
+        void shouldWrapAround_when_usedAsQueue() throws NoSuchFieldException, IllegalAccessException {
+            for (int i = 0; i < 100; i++) {
+                list.add(i);
+                list.add(i + 1000);
+                assertEquals(i, list.removeFirst());
+                assertEquals(i + 1000, list.removeFirst());
+            }
+
+            Object[] internalArray = (Object[]) getFieldValue(list, elementDataFieldName);
+            assertEquals(4, internalArray.length);
+            assertTrue(list.isEmpty());
+        }
+
+        @Test
+        void shouldGrowAndUnwrap_when_fullAndWrapped() throws NoSuchFieldException, IllegalAccessException {
+            list.add(1);
+            list.add(2);
+            list.removeFirst();
+            list.add(3);
+            list.add(4);
+            list.add(5);
+
+            list.add(6);
+
+            Object[] internalArray = (Object[]) getFieldValue(list, elementDataFieldName);
+            assertEquals(7, internalArray.length);
+            assertEquals(0, getFieldValue(list, headFieldName));
+            for (int i = 0; i < 5; i++) {
+                assertEquals(i + 2, list.get(i));
+            }
+        }
+
+        @Test
+        void shouldAddFirstAndRemoveLast() {
+            list.add(2);
+            list.addFirst(1);
+            list.addFirst(0);
+
+            assertEquals(3, list.size());
+            assertEquals(0, list.get(0));
+            assertEquals(2, list.removeLast());
+            assertEquals(1, list.removeLast());
+            assertEquals(0, list.removeLast());
+            assertThrows(NoSuchElementException.class, list::removeFirst);
+            assertThrows(NoSuchElementException.class, list::removeLast);
+        }
+    }
+
+    @Nested
+    class IndexedOperationTests {
+
+        @Test
+        void shouldMatchArrayList_when_randomEditsAreApplied() {
+            List<Integer> expected = new ArrayList<>();
+            Random random = new Random(7);
+            for (int step = 0; step < 5_000; step++) {
+                int operation = random.nextInt(5);
+                if (operation < 2 || expected.isEmpty()) {
+                    int index = random.nextInt(expected.size() + 1);
+                    expected.add(index, step);
+                    list.add(index, step);
+                } else if (operation == 2) {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), list.remove(index));
+                } else if (operation == 3) {
+                    assertEquals(expected.remove(0), list.removeFirst());
+                } else {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.set(index, -step), list.set(index, -step));
+                }
+                assertEquals(expected.size(), list.size());
+            }
+
+            int i = 0;
+            for (Integer value : list) {
+                assertEquals(expected.get(i++), value);
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 2, 10})
+        void shouldThrowIndexOutOfBoundException_when_indexIsWrong(int index) {
+            list.add(1);
+            list.add(2);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.add(index < 0 ? index : index + 1, 1));
+        }
+
+        @Test
+        void shouldClearWrappedBuffer() throws NoSuchFieldException, IllegalAccessException {
+            list.add(1);
+            list.add(2);
+            list.removeFirst();
+            list.add(3);
+            list.add(4);
+            list.add(5);
+
+            list.clear();
+
+            Object[] internalArray = (Object[]) getFieldValue(list, elementDataFieldName);
+            for (Object o : internalArray) {
+                assertNull(o);
+            }
+            assertTrue(list.isEmpty());
+        }
+    }
+
+    @Nested
+    class IterationTests {
+
+        @Test
+        void shouldIterateInOrderAndRemove() {
+            for (int i = 0; i < 6; i++) {
+                list.addFirst(i);
+            }
+            Iterator<Integer> it = list.iterator();
+
+            assertEquals(5, it.next());
+            it.remove();
+            assertEquals(4, it.next());
+            assertEquals(5, list.size());
+        }
+
+        @Test
+        void shouldThrowConcurrentModificationException_when_listIsModified() {
+            list.add(1);
+            list.add(2);
+            Iterator<Integer> it = list.iterator();
+
+            it.next();
+            list.removeFirst();
+
+            assertThrows(ConcurrentModificationException.class, it::next);
+        }
+    }
+
+    private Object getFieldValue(CircularArrayList<?> list, String fieldName) throws NoSuchFieldException, IllegalAccessException {
+        Field field = list.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(list);
+    }
+}
@@ -0,0 +1,272 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarListTest {
+    private static final ColumnSchema<Trade> SCHEMA = new ColumnSchema<>(
+            row -> new Trade(row.getInt(0), row.getLong(1), row.getDouble(2), (String) row.getObject(3)),
+            ColumnSchema.Column.ofInt("id", Trade::id),
+            ColumnSchema.Column.ofLong("timestamp", Trade::timestamp),
+            ColumnSchema.Column.ofDouble("price", Trade::price),
+            ColumnSchema.Column.ofObject("symbol", Trade::symbol));
+    private static final int ID = 0;
+    private static final int TIMESTAMP = 1;
+    private static final int PRICE = 2;
+    private static final int SYMBOL = 3;
+
+    private final String columnsFieldName = "columns";
+    private ColumnarList<Trade> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new ColumnarList<>(SCHEMA, 2);
+    }
+
+    /**
+     * schema constraints:
+     * columns looked up by name;
+     * no columns, duplicate or unknown column -> throw IllegalArgumentException;
+     */
+    @Nested
+    class SchemaTests {
+
+        @Test
+        void shouldResolveColumnsByName() {
+            assertEquals(4, SCHEMA.columnCount());
+            assertEquals(PRICE, SCHEMA.indexOf("price"));
+            assertEquals("symbol", SCHEMA.name(SYMBOL));
+            assertEquals(ColumnSchema.Type.LONG, SCHEMA.type(TIMESTAMP));
+            assertThrows(IllegalArgumentException.class, () -> SCHEMA.indexOf("volume"));
+            assertThrows(IndexOutOfBoundsException.class, () -> SCHEMA.type(4));
+        }
+
+        @Test
+        void shouldThrowIllegalArgumentException_when_schemaIsWrong() {
+            assertThrows(IllegalArgumentException.class, () -> new ColumnSchema<Trade>(row -> null));
+            assertThrows(IllegalArgumentException.class, () -> new ColumnSchema<>(row -> null,
+                    ColumnSchema.Column.<Trade>ofInt("id", Trade::id),
+                    ColumnSchema.Column.<Trade>ofLong("id", Trade::timestamp)));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, Integer.MAX_VALUE - 7})
+        void shouldThrowIllegalArgumentException_when_capacityIsWrong(int capacity) {
+            assertThrows(IllegalArgumentException.class, () -> new ColumnarList<>(SCHEMA, capacity));
+        }
+    }
+
+    /**
+     * row constraints:
+     * add -> record split into columns, all columns grow together;
+     * get -> record rebuilt by the schema;
+     * remove -> rows shifted in every column, object slot cleared;
+     */
+    @Nested
+    class RowTests {
+
+        @Test
+        void shouldGrowAllColumnsTogether() throws NoSuchFieldException, IllegalAccessException {
+            for (int i = 0; i < 5; i++) {
+                list.add(trade(i));
+            }
+
+            Object[] columns = (Object[]) getFieldValue(list, columnsFieldName);
+            // capacity 2 -> 4 -> 7
+            assertEquals(7, ((int[]) columns[ID]).length);
+            assertEquals(7, ((long[]) columns[TIMESTAMP]).length);
+            assertEquals(7, ((double[]) columns[PRICE]).length);
+            assertEquals(7, ((Object[]) columns[SYMBOL]).length);
+            assertEquals(5, list.size());
+        }
+
+        @Test
+        void shouldRebuildRecords() {
+            for (int i = 0; i < 3; i++) {
+                list.add(trade(i));
+            }
+
+            assertEquals(trade(1), list.get(1));
+            assertEquals(2, list.getInt(2, ID));
+            assertEquals(2000L, list.getLong(2, TIMESTAMP));
+            assertEquals(2.5, list.getDouble(2, PRICE));
+            assertEquals("S2", list.getObject(2, SYMBOL));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+            assertThrows(IllegalArgumentException.class, () -> list.getInt(0, PRICE));
+        }
+
+        @Test
+        void shouldShiftEveryColumn_when_removing() throws NoSuchFieldException, IllegalAccessException {
+            for (int i = 0; i < 4; i++) {
+                list.add(trade(i));
+            }
+
+            assertEquals(trade(1), list.remove(1));
+
+            assertEquals(3, list.size());
+            assertEquals(List.of(trade(0), trade(2), trade(3)), toList(list));
+            Object[] columns = (Object[]) getFieldValue(list, columnsFieldName);
+            assertNull(((Object[]) columns[SYMBOL])[3]);
+        }
+
+        @Test
+        void shouldClearObjectSlots() throws NoSuchFieldException, IllegalAccessException {
+            list.add(trade(0));
+            list.add(trade(1));
+
+            list.clear();
+
+            assertTrue(list.isEmpty());
+            Object[] columns = (Object[]) getFieldValue(list, columnsFieldName);
+            assertNull(((Object[]) columns[SYMBOL])[0]);
+            assertNull(((Object[]) columns[SYMBOL])[1]);
+        }
+
+        @Test
+        void shouldThrowNullPointerException_when_recordIsNull() {
+            assertThrows(NullPointerException.class, () -> list.add(null));
+        }
+    }
+
+    /**
+     * column constraints:
+     * sum/forEach over a single column in row order;
+     * projection -> independent copy of one column;
+     * modification during a scan -> throw ConcurrentModificationException;
+     */
+    @Nested
+    class ColumnTests {
+
+        @BeforeEach
+        void fill() {
+            for (int i = 0; i < 100; i++) {
+                list.add(trade(i));
+            }
+        }
+
+        @Test
+        void shouldAggregateColumns() {
+            assertEquals(4950, list.sumInt(ID));
+            assertEquals(4_950_000L, list.sumLong(TIMESTAMP));
+            assertEquals(4950 + 50.0, list.sumDouble(PRICE));
+            assertThrows(IllegalArgumentException.class, () -> list.sumLong(ID));
+        }
+
+        @Test
+        void shouldScanColumnsInRowOrder() {
+            List<Integer> ids = new ArrayList<>();
+            List<Long> timestamps = new ArrayList<>();
+            double[] maxPrice = {Double.NEGATIVE_INFINITY};
+            List<Object> symbols = new ArrayList<>();
+
+            list.forEachInt(ID, ids::add);
+            list.forEachLong(TIMESTAMP, timestamps::add);
+            list.forEachDouble(PRICE, price -> maxPrice[0] = Math.max(maxPrice[0], price));
+            list.forEachObject(SYMBOL, symbols::add);
+
+            assertEquals(100, ids.size());
+            assertEquals(42, ids.get(42));
+            assertEquals(42_000L, timestamps.get(42));
+            assertEquals(99.5, maxPrice[0]);
+            assertEquals("S42", symbols.get(42));
+        }
+
+        @Test
+        void shouldProjectColumns() {
+            IntArrayList ids = list.projectInt(ID);
+            LongArrayList timestamps = list.projectLong(TIMESTAMP);
+            DoubleArrayList prices = list.projectDouble(PRICE);
+            MyArrayList<String> symbols = list.projectObject(SYMBOL);
+            ids.set(0, -1);
+
+            assertEquals(100, ids.size());
+            assertEquals(0, list.getInt(0, ID));
+            assertEquals(99_000L, timestamps.get(99));
+            assertEquals(0.5, prices.get(0));
+            assertEquals("S7", symbols.get(7));
+        }
+
+        @Test
+        void shouldThrowConcurrentModificationException_when_scanModifiesList() {
+            assertThrows(ConcurrentModificationException.class, () -> list.forEachInt(ID, id -> list.add(trade(id))));
+
+            Iterator<Trade> iterator = list.iterator();
+            iterator.next();
+            list.remove(0);
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+    }
+
+    private static Trade trade(int i) {
+        return new Trade(i, i * 1000L, i + 0.5, "S" + i);
+    }
+
+    private static List<Trade> toList(ColumnarList<Trade> list) {
+        List<Trade> result = new ArrayList<>();
+        list.forEach(result::add);
+        return result;
+    }
+
+    private Object getFieldValue(ColumnarList<?> list, String fieldName) throws NoSuchFieldException, IllegalAccessException {
+        Field field = list.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(list);
+    }
+
+    private static final class Trade {
+        private final int id;
+        private final long timestamp;
+        private final double price;
+        private final String symbol;
+
+        Trade(int id, long timestamp, double price, String symbol) {
+            this.id = id;
+            this.timestamp = timestamp;
+            this.price = price;
+            this.symbol = symbol;
+        }
+
+        int id() {
+            return id;
+        }
+
+        long timestamp() {
+            return timestamp;
+        }
+
+        double price() {
+            return price;
+        }
+
+        String symbol() {
+            return symbol;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Trade)) {
+                return false;
+            }
+            Trade other = (Trade) o;
+            return id == other.id && timestamp == other.timestamp
+                    && Double.compare(price, other.price) == 0 && Objects.equals(symbol, other.symbol);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, timestamp, price, symbol);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedLongListTest {
+    private CompressedLongList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new CompressedLongList();
+    }
+
+    /**
+     * encoding constraints:
+     * values read back in order, across block boundaries, by get and by iterator;
+     * negative, decreasing and extreme deltas -> decoded exactly;
+     * sorted values with small gaps -> about one byte per value;
+     */
+    @Nested
+    class EncodingTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 127, 128, 129, 1000})
+        void shouldReadBackSortedValues(int count) {
+            for (int i = 0; i < count; i++) {
+                list.add(1_000_000L + i * 3L);
+            }
+
+            assertEquals(count, list.size());
+            for (int i = 0; i < count; i++) {
+                assertEquals(1_000_000L + i * 3L, list.get(i));
+            }
+            PrimitiveIterator.OfLong it = list.iterator();
+            for (int i = 0; i < count; i++) {
+                assertEquals(1_000_000L + i * 3L, it.nextLong());
+            }
+            assertFalse(it.hasNext());
+        }
+
+        @Test
+        void shouldReadBackUnsortedAndExtremeValues() {
+            long[] values = new long[700];
+            Random random = new Random(42);
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextLong();
+            }
+            values[5] = Long.MIN_VALUE;
+            values[6] = Long.MAX_VALUE;
+            values[7] = Long.MIN_VALUE;
+            for (long value : values) {
+                list.add(value);
+            }
+
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(values[i], list.get(i));
+            }
+            assertArrayEquals(values, list.toLongArrayList().toArray());
+        }
+
+        @Test
+        void shouldUseAboutOneBytePerValue_when_gapsAreSmall() {
+            LongArrayList source = new LongArrayList();
+            for (int i = 0; i < 10_000; i++) {
+                source.add(5_000_000_000L + i * 10L);
+            }
+
+            CompressedLongList compressed = CompressedLongList.from(source);
+
+            assertEquals(10_000, compressed.size());
+            assertTrue(compressed.sizeInBytes() < 10_000 * 2L);
+            assertEquals(5_000_000_000L + 9_999 * 10L, compressed.get(9_999));
+        }
+    }
+
+    /**
+     * access constraints:
+     * get with index out of range -> throw IndexOutOfBoundsException;
+     * next past the end -> throw NoSuchElementException;
+     * add during iteration -> throw ConcurrentModificationException;
+     * clear -> empty list that accepts new values;
+     */
+    @Nested
+    class AccessTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 3})
+        void shouldThrowIndexOutOfBoundsException_when_indexIsWrong(int index) {
+            list.add(1);
+            list.add(2);
+            list.add(3);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+        }
+
+        @Test
+        void shouldThrowNoSuchElementException_when_iteratorIsExhausted() {
+            list.add(1);
+            PrimitiveIterator.OfLong it = list.iterator();
+            it.nextLong();
+
+            assertThrows(NoSuchElementException.class, it::nextLong);
+        }
+
+        @Test
+        void shouldFailFast_when_modifiedDuringIteration() {
+            list.add(1);
+            list.add(2);
+
+            assertThrows(ConcurrentModificationException.class, () -> list.forEachLong(list::add));
+        }
+
+        @Test
+        void shouldAcceptNewValues_when_cleared() {
+            for (int i = 0; i < 300; i++) {
+                list.add(i);
+            }
+
+            list.clear();
+            list.add(-5);
+            list.add(7);
+
+            assertEquals(2, list.size());
+            assertEquals(-5, list.get(0));
+            assertEquals(7, list.get(1));
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentMyArrayListTest {
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 20_000;
+    private ConcurrentMyArrayList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new ConcurrentMyArrayList<>();
+    }
+
+    @Nested
+    class SingleThreadTests {
+
+        @Test
+        void shouldBehaveLikeMyArrayList() {
+            list.add(1);
+            list.add(3);
+            list.add(1, 2);
+            list.addAll(List.of(4, 5));
+
+            assertEquals(5, list.size());
+            assertEquals(3, list.set(2, 30));
+            assertEquals(30, list.get(2));
+            assertEquals(1, list.remove(0));
+            assertEquals(4, list.size());
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+
+            list.clear();
+            assertTrue(list.isEmpty());
+        }
+
+        @Test
+        void shouldIterateOverSnapshot() {
+            list.add(1);
+            list.add(2);
+            Iterator<Integer> it = list.iterator();
+
+            list.add(3);
+
+            assertEquals(1, it.next());
+            assertEquals(2, it.next());
+            assertFalse(it.hasNext());
+            assertThrows(UnsupportedOperationException.class, it::remove);
+        }
+
+        @Test
+        void shouldAllowModification_when_actionRunsInForEach() {
+            list.add(1);
+            list.add(2);
+
+            list.forEach(e -> list.add(e * 10));
+
+            assertEquals(4, list.size());
+            assertEquals(20, list.get(3));
+        }
+    }
+
+    /**
+     * contention constraints:
+     * every add is applied exactly once, and the order of each producer's adds is kept;
+     * readers never observe a missing element or an index beyond the size they read;
+     */
+    @Nested
+    class ContentionTests {
+
+        @Test
+        void shouldKeepEveryAdd_when_producersAddConcurrently() throws Exception {
+            runConcurrently(THREADS, thread -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    list.add(thread * OPERATIONS + i);
+                }
+            });
+
+            assertEquals(THREADS * OPERATIONS, list.size());
+            Set<Integer> seen = new HashSet<>();
+            int[] lastPerThread = new int[THREADS];
+            Arrays.fill(lastPerThread, -1);
+            for (Integer value : list) {
+                assertTrue(seen.add(value), "duplicate " + value);
+                int thread = value / OPERATIONS;
+                assertTrue(value % OPERATIONS > lastPerThread[thread], "producer order broken");
+                lastPerThread[thread] = value % OPERATIONS;
+            }
+        }
+
+        @Test
+        void shouldReturnConsistentElements_when_readersRaceWithWriters() throws Exception {
+            AtomicBoolean writing = new AtomicBoolean(true);
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                List<Future<?>> readers = new ArrayList<>();
+                for (int r = 0; r < THREADS - 1; r++) {
+                    readers.add(executor.submit(() -> {
+                        while (writing.get()) {
+                            int size = list.size();
+                            if (size > 0) {
+                                int index = size - 1;
+                                assertEquals(index, list.get(index));
+                            }
+                        }
+                    }));
+                }
+                for (int i = 0; i < OPERATIONS * 5; i++) {
+                    list.add(i);
+                }
+                writing.set(false);
+                for (Future<?> reader : readers) {
+                    reader.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(OPERATIONS * 5, list.size());
+        }
+
+        @Test
+        void shouldEndEmpty_when_everyThreadRemovesWhatItAdded() throws Exception {
+            runConcurrently(THREADS, thread -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    list.add(i);
+                    list.remove(0);
+                }
+            });
+
+            assertEquals(0, list.size());
+            assertTrue(list.isEmpty());
+        }
+
+        @Test
+        void shouldNeverExposeUnwrittenValue_when_settingConcurrently() throws Exception {
+            for (int i = 0; i < 100; i++) {
+                list.add(0);
+            }
+
+            runConcurrently(THREADS, thread -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    if (thread % 2 == 0) {
+                        list.set(i % 100, thread);
+                    } else {
+                        Integer value = list.get(i % 100);
+                        assertNotNull(value);
+                        assertTrue(value == 0 || value % 2 == 0);
+                    }
+                }
+            });
+
+            assertEquals(100, list.size());
+        }
+    }
+
+    private void runConcurrently(int threads, ThreadBody body) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    body.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadBody {
+        void run(int thread);
+    }
+}
@@ -0,0 +1,176 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CopyOnWriteMyArrayListTest {
+    private CopyOnWriteMyArrayList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new CopyOnWriteMyArrayList<>();
+    }
+
+    @Nested
+    class TestingModificationMethods {
+
+        @Test
+        void shouldBehaveLikeMyArrayList() {
+            list.add(1);
+            list.add(3);
+            list.add(1, 2);
+            list.addAll(List.of(4, 5));
+
+            assertEquals(5, list.size());
+            assertEquals(3, list.set(2, 30));
+            assertEquals(30, list.get(2));
+            assertEquals(1, list.remove(0));
+            assertEquals(4, list.size());
+            assertEquals(2, list.get(0));
+            assertEquals(5, list.get(3));
+
+            list.clear();
+            assertTrue(list.isEmpty());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 2, 10})
+        void shouldThrowIndexOutOfBoundException_when_indexIsWrong(int index) {
+            list.add(1);
+            list.add(2);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.add(index < 0 ? index : index + 1, 1));
+        }
+
+        @Test
+        void shouldApplyBatch() {
+            list.addAll(List.of(1, 2, 3));
+
+            list.update(batch -> {
+                batch.remove(0);
+                for (int i = 4; i <= 100; i++) {
+                    batch.add(i);
+                }
+            });
+
+            assertEquals(99, list.size());
+            assertEquals(2, list.get(0));
+            assertEquals(100, list.get(98));
+        }
+
+        @Test
+        void shouldNotExposeSnapshot_when_batchListLeaks() {
+            list.addAll(List.of(1, 2, 3));
+            AtomicReference<MyArrayList<Integer>> leaked = new AtomicReference<>();
+
+            list.update(batch -> {
+                batch.add(4);
+                batch.trimToSize();
+                leaked.set(batch);
+            });
+            Iterator<Integer> it = list.iterator();
+            assertTrue(leaked.get().isEmpty());
+            assertThrows(IndexOutOfBoundsException.class, () -> leaked.get().set(0, 99));
+            leaked.get().add(5);
+
+            assertEquals(4, list.size());
+            for (int i = 1; i <= 4; i++) {
+                assertEquals(i, it.next());
+            }
+            assertFalse(it.hasNext());
+        }
+
+        @Test
+        void shouldPublishNothing_when_batchThrows() {
+            list.addAll(List.of(1, 2, 3));
+
+            assertThrows(IllegalStateException.class, () -> list.update(batch -> {
+                batch.clear();
+                throw new IllegalStateException();
+            }));
+
+            assertEquals(3, list.size());
+        }
+    }
+
+    @Nested
+    class SnapshotTests {
+
+        @Test
+        void shouldIterateOverSnapshot_when_listChanges() {
+            list.addAll(List.of(1, 2));
+            Iterator<Integer> it = list.iterator();
+
+            list.clear();
+            list.add(3);
+
+            assertEquals(1, it.next());
+            assertEquals(2, it.next());
+            assertFalse(it.hasNext());
+            assertThrows(NoSuchElementException.class, it::next);
+            assertThrows(UnsupportedOperationException.class, it::remove);
+        }
+
+        @Test
+        void shouldAllowModification_when_actionRunsInForEach() {
+            list.addAll(List.of(1, 2));
+
+            list.forEach(e -> list.add(e * 10));
+
+            assertEquals(4, list.size());
+        }
+
+        @Test
+        void shouldNeverExposePartialBatch_when_readersRace() throws Exception {
+            int batchSize = 50;
+            AtomicBoolean writing = new AtomicBoolean(true);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                Future<?>[] readers = new Future<?>[4];
+                for (int r = 0; r < readers.length; r++) {
+                    readers[r] = executor.submit(() -> {
+                        while (writing.get()) {
+                            int count = 0;
+                            for (Integer ignored : list) {
+                                count++;
+                            }
+                            assertEquals(0, count % batchSize);
+                        }
+                    });
+                }
+                for (int b = 0; b < 500; b++) {
+                    list.update(batch -> {
+                        for (int i = 0; i < batchSize; i++) {
+                            batch.add(i);
+                        }
+                    });
+                }
+                writing.set(false);
+                for (Future<?> reader : readers) {
+                    reader.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(500 * batchSize, list.size());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryEncodedListTest {
+    private DictionaryEncodedList<String> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new DictionaryEncodedList<>();
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_when_capacityIsWrong() {
+        assertThrows(IllegalArgumentException.class, () -> new DictionaryEncodedList<>(-1));
+    }
+
+    /**
+     * encoding constraints:
+     * repeated values -> one dictionary entry, same code;
+     * codes assigned in order of first appearance;
+     * null -> encoded like any other value;
+     * set and remove -> dictionary keeps the old value;
+     * more than 256 / 65536 distinct values -> codes widened to 2 / 4 bytes, elements kept;
+     * clear -> back to one byte per code;
+     */
+    @Nested
+    class EncodingTests {
+
+        @Test
+        void shouldShareCode_when_valueRepeats() {
+            list.add("red");
+            list.add("green");
+            list.add("red");
+            list.add(null);
+            list.add(null);
+
+            assertEquals(5, list.size());
+            assertEquals(3, list.dictionarySize());
+            assertEquals(0, list.code(0));
+            assertEquals(1, list.code(1));
+            assertEquals(0, list.code(2));
+            assertEquals(2, list.code(4));
+            assertNull(list.get(3));
+            assertEquals("red", list.get(2));
+        }
+
+        @Test
+        void shouldKeepDictionary_when_elementsAreReplacedOrRemoved() {
+            list.add("a");
+            list.add("b");
+            list.add(1, "c");
+
+            assertEquals("c", list.set(1, "b"));
+            assertEquals("a", list.remove(0));
+
+            assertEquals(List.of("b", "b"), list.toMyArrayList());
+            assertEquals(3, list.dictionarySize());
+        }
+
+        @Test
+        void shouldWidenCodes_when_dictionaryGrows() {
+            assertEquals(1, list.codeWidth());
+            for (int i = 0; i < 256; i++) {
+                list.add("v" + i);
+            }
+            assertEquals(1, list.codeWidth());
+            assertEquals(255, list.code(255));
+
+            list.add(0, "v256");
+            assertEquals(2, list.codeWidth());
+            for (int i = 256; i < 70_000; i++) {
+                list.add("v" + i);
+            }
+            assertEquals(4, list.codeWidth());
+
+            assertEquals(70_000, list.dictionarySize());
+            assertEquals(70_001, list.size());
+            assertEquals("v256", list.get(0));
+            assertEquals("v255", list.get(256));
+            assertEquals(65_536, list.code(list.indexOf("v65536")));
+            assertEquals(2, list.count("v256"));
+            assertEquals("v69999", list.remove(70_000));
+
+            list.clear();
+            assertEquals(1, list.codeWidth());
+            list.add("a");
+            assertEquals("a", list.get(0));
+        }
+
+        @Test
+        void shouldEmptyDictionary_when_cleared() {
+            list.add("a");
+            list.clear();
+            list.add("b");
+
+            assertEquals(1, list.dictionarySize());
+            assertEquals(0, list.code(0));
+        }
+    }
+
+    /**
+     * search and access constraints:
+     * indexOf, contains, count -> compare codes, absent value -> -1 / false / 0;
+     * index out of range -> throw IndexOutOfBoundsException, dictionary unchanged;
+     * modification during iteration -> throw ConcurrentModificationException;
+     */
+    @Nested
+    class SearchAndAccessTests {
+
+        @BeforeEach
+        void fill() {
+            for (int i = 0; i < 100; i++) {
+                list.add(i % 3 == 0 ? "x" : "y");
+            }
+        }
+
+        @Test
+        void shouldSearchByCode() {
+            assertEquals(0, list.indexOf("x"));
+            assertEquals(1, list.indexOf("y"));
+            assertEquals(-1, list.indexOf("z"));
+            assertTrue(list.contains("y"));
+            assertFalse(list.contains(null));
+            assertEquals(34, list.count("x"));
+            assertEquals(66, list.count("y"));
+            assertEquals(0, list.count("z"));
+        }
+
+        @Test
+        void shouldThrowIndexOutOfBoundsException_when_indexIsWrong() {
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, "z"));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.add(101, "z"));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.remove(100));
+            assertEquals(2, list.dictionarySize());
+        }
+
+        @Test
+        void shouldFailFast_when_modifiedDuringIteration() {
+            Iterator<String> it = list.iterator();
+            it.next();
+            list.add("z");
+
+            assertThrows(ConcurrentModificationException.class, it::next);
+            assertThrows(ConcurrentModificationException.class, () -> list.forEach(list::add));
+        }
+
+        @Test
+        void shouldIterateInOrder() {
+            int i = 0;
+            for (String s : list) {
+                assertEquals(i++ % 3 == 0 ? "x" : "y", s);
+            }
+            assertEquals(100, i);
+        }
+    }
+}
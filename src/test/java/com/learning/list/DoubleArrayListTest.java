@@ -0,0 +1,290 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleArrayListTest {
+    private final String elementDataFieldName = "elementData";
+    private DoubleArrayList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new DoubleArrayList();
+    }
+
+    @Nested
+    class CapacityValidatorTest {
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, Integer.MIN_VALUE, Integer.MAX_VALUE - 7})
+        void shouldThrowIllegalArgumentException_when_capacityIsWrong(int capacity) {
+            assertThrows(IllegalArgumentException.class, () -> new DoubleArrayList(capacity));
+        }
+
+        @Test
+        void shouldCreateDefaultArrayLength_when_constructorIsEmpty() throws NoSuchFieldException, IllegalAccessException {
+            double[] internalArray = (double[]) getFieldValue(list, elementDataFieldName);
+
+            assertEquals(10, internalArray.length);
+        }
+
+        @Test
+        void shouldTrimAndShrinkBuffer() throws NoSuchFieldException, IllegalAccessException {
+            DoubleArrayList list = new DoubleArrayList(4);
+            for (int i = 0; i < 50; i++) {
+                list.add((double) i);
+            }
+
+            list.trimToSize();
+            assertEquals(50, ((double[]) getFieldValue(list, elementDataFieldName)).length);
+
+            list.clear(true);
+            assertEquals(4, ((double[]) getFieldValue(list, elementDataFieldName)).length);
+            assertTrue(list.isEmpty());
+        }
+    }
+
+    @Nested
+    class TestingModificationMethods {
+
+        @Test
+        void shouldAddAndGrowBy50Percent() throws NoSuchFieldException, IllegalAccessException {
+            DoubleArrayList list = new DoubleArrayList(5);
+            for (int i = 0; i < 10; i++) {
+                assertTrue(list.add((double) i));
+            }
+
+            double[] internalArray = (double[]) getFieldValue(list, elementDataFieldName);
+            assertEquals(13, internalArray.length);
+            assertEquals(10, list.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals((double) i, list.get(i));
+            }
+        }
+
+        @Test
+        void shouldInsertAtPositionAndShiftTail() {
+            list.add((double) 1);
+            list.add((double) 3);
+
+            assertTrue(list.add(1, (double) 2));
+
+            assertEquals(3, list.size());
+            assertArrayEquals(new double[]{1, 2, 3}, list.toArray());
+        }
+
+        @Test
+        void shouldSetValueAndReturnOldValue() {
+            list.add((double) 1);
+
+            assertEquals((double) 1, list.set(0, (double) 7));
+            assertEquals((double) 7, list.get(0));
+        }
+
+        @Test
+        void shouldRemoveAndReturnValue() {
+            list.addAll(new double[]{1, 2, 3, 4});
+
+            assertEquals((double) 2, list.remove(1));
+
+            assertArrayEquals(new double[]{1, 3, 4}, list.toArray());
+        }
+
+        @Test
+        void shouldRemoveRange() {
+            list.addAll(new double[]{1, 2, 3, 4, 5});
+
+            list.removeRange(1, 4);
+
+            assertArrayEquals(new double[]{1, 5}, list.toArray());
+        }
+
+        @Test
+        void shouldAppendList() {
+            DoubleArrayList other = new DoubleArrayList();
+            other.addAll(new double[]{3, 4});
+            list.addAll(new double[]{1, 2});
+
+            assertTrue(list.addAll(other));
+            assertTrue(list.addAll(list));
+
+            assertArrayEquals(new double[]{1, 2, 3, 4, 1, 2, 3, 4}, list.toArray());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 1, 10})
+        void shouldThrowIndexOutOfBoundException_when_indexIsWrong(int index) {
+            list.add((double) 1);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, (double) 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.add(index < 0 ? index : index + 1, (double) 1));
+        }
+    }
+
+    @Nested
+    class IterationTests {
+
+        @Test
+        void shouldIterateWithoutBoxing() {
+            list.addAll(new double[]{1, 2, 3});
+            PrimitiveIterator.OfDouble it = list.iterator();
+
+            assertEquals((double) 1, it.nextDouble());
+            assertEquals((double) 2, it.nextDouble());
+            assertEquals((double) 3, it.nextDouble());
+            assertFalse(it.hasNext());
+            assertThrows(NoSuchElementException.class, it::nextDouble);
+        }
+
+        @Test
+        void shouldRemoveThroughIterator() {
+            list.addAll(new double[]{1, 2, 3});
+            PrimitiveIterator.OfDouble it = list.iterator();
+
+            it.nextDouble();
+            it.remove();
+
+            assertArrayEquals(new double[]{2, 3}, list.toArray());
+            assertThrows(IllegalStateException.class, it::remove);
+        }
+
+        @Test
+        void shouldThrowConcurrentModificationException_when_listIsModified() {
+            list.addAll(new double[]{1, 2, 3});
+            PrimitiveIterator.OfDouble it = list.iterator();
+
+            it.nextDouble();
+            list.add((double) 4);
+
+            assertThrows(ConcurrentModificationException.class, it::nextDouble);
+        }
+    }
+
+    /**
+     * scan constraints:
+     * indexOf/contains -> first match in [0, size), values past size are ignored;
+     * count/filterInto -> elements in the inclusive range, in order;
+     * selective filterInto -> target grows with the selected elements, not the source size;
+     * fill -> every element replaced, size unchanged;
+     * NaN -> never found, counted or filtered; -0.0 and 0.0 -> match each other, sign kept by filterInto;
+     */
+    @Nested
+    class ScanTests {
+
+        @Test
+        void shouldFindFirstMatch() {
+            for (int i = 0; i < 100; i++) {
+                list.add((double) (i % 10));
+            }
+
+            assertEquals(7, list.indexOf((double) 7));
+            assertTrue(list.contains((double) 9));
+            assertEquals(-1, list.indexOf((double) 10));
+            assertFalse(list.contains((double) -1));
+        }
+
+        @Test
+        void shouldIgnoreStaleValues_when_searchingAfterRemove() {
+            list.addAll(new double[]{1, 2, 3});
+            list.remove(2);
+
+            assertEquals(-1, list.indexOf((double) 3));
+        }
+
+        @Test
+        void shouldCountAndFilterRange() {
+            for (int i = 0; i < 100; i++) {
+                list.add((double) i);
+            }
+            DoubleArrayList target = new DoubleArrayList(1);
+            target.add((double) -1);
+
+            assertEquals(11, list.count((double) 20, (double) 30));
+            assertEquals(11, list.filterInto((double) 20, (double) 30, target));
+            assertEquals(12, target.size());
+            assertEquals((double) -1, target.get(0));
+            assertEquals((double) 20, target.get(1));
+            assertEquals((double) 30, target.get(11));
+            assertEquals(0, list.filterInto((double) 200, (double) 300, target));
+        }
+
+        @Test
+        void shouldGrowTargetWithSelection_when_filterIsSelective() throws NoSuchFieldException, IllegalAccessException {
+            for (int i = 0; i < 100_000; i++) {
+                list.add((double) i);
+            }
+            DoubleArrayList target = new DoubleArrayList();
+
+            assertEquals(10, list.filterInto((double) 99_990, (double) 99_999, target));
+
+            assertEquals((double) 99_990, target.get(0));
+            assertEquals((double) 99_999, target.get(9));
+            assertTrue(((double[]) getFieldValue(target, elementDataFieldName)).length <= 1 << 13);
+            assertEquals(100_000, list.filterInto((double) 0, (double) 100_000, target));
+            assertEquals(100_010, target.size());
+            assertEquals((double) 99_999, target.get(100_009));
+        }
+
+        @Test
+        void shouldFillElements() {
+            list.addAll(new double[]{1, 2, 3});
+
+            list.fill((double) 5);
+
+            assertEquals(3, list.size());
+            assertEquals(3, list.count((double) 5, (double) 5));
+        }
+
+        @Test
+        void shouldNeverMatchNaN() {
+            for (int i = 0; i < 100; i++) {
+                list.add(i % 2 == 0 ? Double.NaN : i);
+            }
+            DoubleArrayList target = new DoubleArrayList();
+
+            assertEquals(-1, list.indexOf(Double.NaN));
+            assertFalse(list.contains(Double.NaN));
+            assertEquals(0, list.count(Double.NaN, Double.NaN));
+            assertEquals(50, list.count(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+            assertEquals(50, list.filterInto(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, target));
+            assertEquals(1, target.get(0));
+            assertEquals(99, target.get(49));
+        }
+
+        @Test
+        void shouldMatchBothZeros_and_keepTheirSign() {
+            for (int i = 0; i < 100; i++) {
+                list.add(i % 10 + 1);
+            }
+            list.set(37, -0.0);
+            list.set(64, 0.0);
+            DoubleArrayList target = new DoubleArrayList();
+
+            assertEquals(37, list.indexOf(0.0));
+            assertEquals(37, list.indexOf(-0.0));
+            assertEquals(2, list.count(0.0, 0.0));
+            assertEquals(2, list.count(-0.0, -0.0));
+            assertEquals(2, list.filterInto(0.0, 0.0, target));
+            assertEquals(-0.0, target.get(0));
+            assertEquals(0.0, target.get(1));
+        }
+    }
+
+    private Object getFieldValue(DoubleArrayList list, String fieldName) throws NoSuchFieldException, IllegalAccessException {
+        Field field = list.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(list);
+    }
+}
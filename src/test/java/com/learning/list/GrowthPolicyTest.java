@@ -0,0 +1,62 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrowthPolicyTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 10, 15, 1000})
+    void shouldGrowBy50PercentPlusOne_when_policyIsDefault(int capacity) {
+        assertEquals(capacity + (capacity >> 1) + 1, GrowthPolicy.DEFAULT.newCapacity(capacity));
+    }
+
+    @Test
+    void shouldMultiplyCapacity_when_policyIsGeometric() {
+        GrowthPolicy policy = GrowthPolicy.geometric(2.0);
+
+        assertEquals(1, policy.newCapacity(0));
+        assertEquals(21, policy.newCapacity(10));
+        assertEquals(Integer.MAX_VALUE, policy.newCapacity(Integer.MAX_VALUE - 8));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1.0, 0.5, -2.0, Double.NaN})
+    void shouldThrowIllegalArgumentException_when_factorIsWrong(double factor) {
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.geometric(factor));
+    }
+
+    @Test
+    void shouldAddIncrement_when_policyIsFixedIncrement() {
+        GrowthPolicy policy = GrowthPolicy.fixedIncrement(100);
+
+        assertEquals(100, policy.newCapacity(0));
+        assertEquals(1100, policy.newCapacity(1000));
+        assertEquals(Integer.MAX_VALUE, policy.newCapacity(Integer.MAX_VALUE - 8));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, Integer.MIN_VALUE})
+    void shouldThrowIllegalArgumentException_when_incrementIsWrong(int increment) {
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.fixedIncrement(increment));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.capped(GrowthPolicy.DEFAULT, increment));
+    }
+
+    @Test
+    void shouldLimitGrowth_when_policyIsCapped() {
+        GrowthPolicy policy = GrowthPolicy.capped(GrowthPolicy.DEFAULT, 1000);
+
+        assertEquals(16, policy.newCapacity(10));
+        assertEquals(1_001_000, policy.newCapacity(1_000_000));
+        assertEquals(Integer.MAX_VALUE, policy.newCapacity(Integer.MAX_VALUE - 8));
+    }
+
+    @Test
+    void shouldKeepResultWithinBuffer_when_policyOverflows() {
+        assertEquals(MyArrayList.MAX_ARRAY_SIZE, MyArrayList.newCapacity(GrowthPolicy.DEFAULT, Integer.MAX_VALUE / 3 * 2, 1));
+        assertEquals(50, MyArrayList.newCapacity(oldCapacity -> oldCapacity, 10, 50));
+    }
+}
@@ -0,0 +1,255 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntArrayListTest {
+    private final String elementDataFieldName = "elementData";
+    private IntArrayList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new IntArrayList();
+    }
+
+    @Nested
+    class CapacityValidatorTest {
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, Integer.MIN_VALUE, Integer.MAX_VALUE - 7})
+        void shouldThrowIllegalArgumentException_when_capacityIsWrong(int capacity) {
+            assertThrows(IllegalArgumentException.class, () -> new IntArrayList(capacity));
+        }
+
+        @Test
+        void shouldCreateDefaultArrayLength_when_constructorIsEmpty() throws NoSuchFieldException, IllegalAccessException {
+            int[] internalArray = (int[]) getFieldValue(list, elementDataFieldName);
+
+            assertEquals(10, internalArray.length);
+        }
+
+        @Test
+        void shouldTrimAndShrinkBuffer() throws NoSuchFieldException, IllegalAccessException {
+            IntArrayList list = new IntArrayList(4);
+            for (int i = 0; i < 50; i++) {
+                list.add(i);
+            }
+
+            list.trimToSize();
+            assertEquals(50, ((int[]) getFieldValue(list, elementDataFieldName)).length);
+
+            list.clear(true);
+            assertEquals(4, ((int[]) getFieldValue(list, elementDataFieldName)).length);
+            assertTrue(list.isEmpty());
+        }
+    }
+
+    @Nested
+    class TestingModificationMethods {
+
+        @Test
+        void shouldAddAndGrowBy50Percent() throws NoSuchFieldException, IllegalAccessException {
+            IntArrayList list = new IntArrayList(5);
+            for (int i = 0; i < 10; i++) {
+                assertTrue(list.add(i));
+            }
+
+            int[] internalArray = (int[]) getFieldValue(list, elementDataFieldName);
+            assertEquals(13, internalArray.length);
+            assertEquals(10, list.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i, list.get(i));
+            }
+        }
+
+        @Test
+        void shouldInsertAtPositionAndShiftTail() {
+            list.add(1);
+            list.add(3);
+
+            assertTrue(list.add(1, 2));
+
+            assertEquals(3, list.size());
+            assertArrayEquals(new int[]{1, 2, 3}, list.toArray());
+        }
+
+        @Test
+        void shouldSetValueAndReturnOldValue() {
+            list.add(1);
+
+            assertEquals(1, list.set(0, 7));
+            assertEquals(7, list.get(0));
+        }
+
+        @Test
+        void shouldRemoveAndReturnValue() {
+            list.addAll(new int[]{1, 2, 3, 4});
+
+            assertEquals(2, list.remove(1));
+
+            assertArrayEquals(new int[]{1, 3, 4}, list.toArray());
+        }
+
+        @Test
+        void shouldRemoveRange() {
+            list.addAll(new int[]{1, 2, 3, 4, 5});
+
+            list.removeRange(1, 4);
+
+            assertArrayEquals(new int[]{1, 5}, list.toArray());
+        }
+
+        @Test
+        void shouldAppendList() {
+            IntArrayList other = new IntArrayList();
+            other.addAll(new int[]{3, 4});
+            list.addAll(new int[]{1, 2});
+
+            assertTrue(list.addAll(other));
+            assertTrue(list.addAll(list));
+
+            assertArrayEquals(new int[]{1, 2, 3, 4, 1, 2, 3, 4}, list.toArray());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 1, 10})
+        void shouldThrowIndexOutOfBoundException_when_indexIsWrong(int index) {
+            list.add(1);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.add(index < 0 ? index : index + 1, 1));
+        }
+    }
+
+    @Nested
+    class IterationTests {
+
+        @Test
+        void shouldIterateWithoutBoxing() {
+            list.addAll(new int[]{1, 2, 3});
+            PrimitiveIterator.OfInt it = list.iterator();
+
+            assertEquals(1, it.nextInt());
+            assertEquals(2, it.nextInt());
+            assertEquals(3, it.nextInt());
+            assertFalse(it.hasNext());
+            assertThrows(NoSuchElementException.class, it::nextInt);
+        }
+
+        @Test
+        void shouldRemoveThroughIterator() {
+            list.addAll(new int[]{1, 2, 3});
+            PrimitiveIterator.OfInt it = list.iterator();
+
+            it.nextInt();
+            it.remove();
+
+            assertArrayEquals(new int[]{2, 3}, list.toArray());
+            assertThrows(IllegalStateException.class, it::remove);
+        }
+
+        @Test
+        void shouldThrowConcurrentModificationException_when_listIsModified() {
+            list.addAll(new int[]{1, 2, 3});
+            PrimitiveIterator.OfInt it = list.iterator();
+
+            it.nextInt();
+            list.add(4);
+
+            assertThrows(ConcurrentModificationException.class, it::nextInt);
+        }
+    }
+
+    /**
+     * scan constraints:
+     * indexOf/contains -> first match in [0, size), values past size are ignored;
+     * count/filterInto -> elements in the inclusive range, in order;
+     * selective filterInto -> target grows with the selected elements, not the source size;
+     * fill -> every element replaced, size unchanged;
+     */
+    @Nested
+    class ScanTests {
+
+        @Test
+        void shouldFindFirstMatch() {
+            for (int i = 0; i < 100; i++) {
+                list.add((i % 10));
+            }
+
+            assertEquals(7, list.indexOf(7));
+            assertTrue(list.contains(9));
+            assertEquals(-1, list.indexOf(10));
+            assertFalse(list.contains(-1));
+        }
+
+        @Test
+        void shouldIgnoreStaleValues_when_searchingAfterRemove() {
+            list.addAll(new int[]{1, 2, 3});
+            list.remove(2);
+
+            assertEquals(-1, list.indexOf(3));
+        }
+
+        @Test
+        void shouldCountAndFilterRange() {
+            for (int i = 0; i < 100; i++) {
+                list.add(i);
+            }
+            IntArrayList target = new IntArrayList(1);
+            target.add(-1);
+
+            assertEquals(11, list.count(20, 30));
+            assertEquals(11, list.filterInto(20, 30, target));
+            assertEquals(12, target.size());
+            assertEquals(-1, target.get(0));
+            assertEquals(20, target.get(1));
+            assertEquals(30, target.get(11));
+            assertEquals(0, list.filterInto(200, 300, target));
+        }
+
+        @Test
+        void shouldGrowTargetWithSelection_when_filterIsSelective() throws NoSuchFieldException, IllegalAccessException {
+            for (int i = 0; i < 100_000; i++) {
+                list.add(i);
+            }
+            IntArrayList target = new IntArrayList();
+
+            assertEquals(10, list.filterInto(99_990, 99_999, target));
+
+            assertEquals(99_990, target.get(0));
+            assertEquals(99_999, target.get(9));
+            assertTrue(((int[]) getFieldValue(target, elementDataFieldName)).length <= 1 << 13);
+            assertEquals(100_000, list.filterInto(0, 100_000, target));
+            assertEquals(100_010, target.size());
+            assertEquals(99_999, target.get(100_009));
+        }
+
+        @Test
+        void shouldFillElements() {
+            list.addAll(new int[]{1, 2, 3});
+
+            list.fill(5);
+
+            assertEquals(3, list.size());
+            assertEquals(3, list.count(5, 5));
+        }
+    }
+
+    private Object getFieldValue(IntArrayList list, String fieldName) throws NoSuchFieldException, IllegalAccessException {
+        Field field = list.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(list);
+    }
+}
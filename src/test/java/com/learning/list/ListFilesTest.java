@@ -0,0 +1,254 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListFilesTest {
+    /**
+     * Codec storing strings of up to 8 ASCII characters, padded with zeros
+     */
+    private static final ElementCodec<String> SHORT_STRING = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return 8;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, String s) {
+            byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+            for (int i = 0; i < 8; i++) {
+                buffer.put(offset + i, i < bytes.length ? bytes[i] : 0);
+            }
+        }
+
+        @Override
+        public String read(ByteBuffer buffer, int offset) {
+            byte[] bytes = new byte[8];
+            int length = 0;
+            while (length < 8 && buffer.get(offset + length) != 0) {
+                bytes[length] = buffer.get(offset + length);
+                length++;
+            }
+            return new String(bytes, 0, length, StandardCharsets.US_ASCII);
+        }
+    };
+
+    @TempDir
+    Path dir;
+
+    @Nested
+    class RoundTripTests {
+
+        @Test
+        void shouldSaveAndMapCodecList() throws IOException {
+            MyArrayList<String> list = new MyArrayList<>();
+            list.add("alpha");
+            list.add("");
+            list.add("omega123");
+            Path file = dir.resolve("strings.bin");
+
+            ListFiles.save(list, SHORT_STRING, file);
+
+            assertEquals(ListFiles.HEADER_SIZE + 3 * 8, Files.size(file));
+            try (MappedList<String> mapped = ListFiles.open(file, SHORT_STRING)) {
+                assertEquals(3, mapped.size());
+                assertEquals("alpha", mapped.get(0));
+                assertEquals("", mapped.get(1));
+                assertEquals("omega123", mapped.get(2));
+                assertEquals(3, mapped.toMyArrayList().size());
+                Iterator<String> it = mapped.iterator();
+                assertEquals("alpha", it.next());
+            }
+        }
+
+        @Test
+        void shouldSaveAndMapIntsAcrossManyChunks() throws IOException {
+            IntArrayList list = new IntArrayList();
+            for (int i = 0; i < 100_000; i++) {
+                list.add(i * 7);
+            }
+            Path file = dir.resolve("ints.bin");
+
+            ListFiles.save(list, file);
+
+            try (MappedIntList mapped = ListFiles.openInts(file)) {
+                assertEquals(100_000, mapped.size());
+                for (int i = 0; i < 100_000; i++) {
+                    assertEquals(i * 7, mapped.get(i));
+                }
+                PrimitiveIterator.OfInt it = mapped.iterator();
+                long sum = 0;
+                while (it.hasNext()) {
+                    sum += it.nextInt();
+                }
+                assertEquals(7L * 99_999 * 100_000 / 2, sum);
+                assertArrayEquals(list.toArray(), mapped.toIntArrayList().toArray());
+            }
+        }
+
+        @Test
+        void shouldSaveAndMapLongsAndDoubles() throws IOException {
+            LongArrayList longs = new LongArrayList();
+            longs.add(Long.MIN_VALUE);
+            longs.add(Long.MAX_VALUE);
+            DoubleArrayList doubles = new DoubleArrayList();
+            doubles.add(Math.PI);
+            doubles.add(-0.5);
+            Path longFile = dir.resolve("longs.bin");
+            Path doubleFile = dir.resolve("doubles.bin");
+
+            ListFiles.save(longs, longFile);
+            ListFiles.save(doubles, doubleFile);
+
+            try (MappedLongList mappedLongs = ListFiles.openLongs(longFile);
+                 MappedDoubleList mappedDoubles = ListFiles.openDoubles(doubleFile)) {
+                assertEquals(Long.MIN_VALUE, mappedLongs.get(0));
+                assertEquals(Long.MAX_VALUE, mappedLongs.get(1));
+                assertEquals(Math.PI, mappedDoubles.get(0));
+                assertEquals(-0.5, mappedDoubles.get(1));
+            }
+        }
+
+        @Test
+        void shouldSaveAndMapEmptyList() throws IOException {
+            Path file = dir.resolve("empty.bin");
+
+            ListFiles.save(new IntArrayList(), file);
+
+            try (MappedIntList mapped = ListFiles.openInts(file)) {
+                assertTrue(mapped.isEmpty());
+                assertFalse(mapped.iterator().hasNext());
+                assertThrows(NoSuchElementException.class, () -> mapped.iterator().nextInt());
+            }
+        }
+
+        @Test
+        void shouldWriteLittleEndianHeader() throws IOException {
+            IntArrayList list = new IntArrayList();
+            list.add(1);
+            Path file = dir.resolve("header.bin");
+
+            ListFiles.save(list, file);
+
+            ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+            assertEquals(ListFiles.MAGIC, header.getInt(0));
+            assertEquals(ListFiles.VERSION, header.getShort(4));
+            assertEquals(ListFiles.KIND_INT, header.getShort(6));
+            assertEquals(Integer.BYTES, header.getInt(8));
+            assertEquals(1L, header.getLong(16));
+            assertEquals(1, header.getInt(ListFiles.HEADER_SIZE));
+        }
+    }
+
+    @Nested
+    class ValidationTests {
+
+        @Test
+        void shouldThrowIOException_when_kindDoesNotMatch() throws IOException {
+            Path file = dir.resolve("ints.bin");
+            ListFiles.save(new IntArrayList(), file);
+
+            assertThrows(IOException.class, () -> ListFiles.openLongs(file));
+            assertThrows(IOException.class, () -> ListFiles.open(file, ElementCodec.INT));
+        }
+
+        @Test
+        void shouldThrowIOException_when_fileIsNotAList() throws IOException {
+            Path file = dir.resolve("garbage.bin");
+            Files.write(file, new byte[ListFiles.HEADER_SIZE + 4]);
+
+            assertThrows(IOException.class, () -> ListFiles.openInts(file));
+        }
+
+        @Test
+        void shouldThrowIOException_when_fileIsTruncated() throws IOException {
+            IntArrayList list = new IntArrayList();
+            list.add(1);
+            list.add(2);
+            Path file = dir.resolve("ints.bin");
+            ListFiles.save(list, file);
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+            assertThrows(IOException.class, () -> ListFiles.openInts(file));
+            Files.write(file, new byte[3]);
+            assertThrows(IOException.class, () -> ListFiles.openInts(file));
+        }
+
+        @Test
+        void shouldThrowExceptions_when_indexIsWrongOrListIsClosed() throws IOException {
+            IntArrayList list = new IntArrayList();
+            list.add(1);
+            Path file = dir.resolve("ints.bin");
+            ListFiles.save(list, file);
+            MappedIntList mapped = ListFiles.openInts(file);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> mapped.get(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> mapped.get(-1));
+            mapped.close();
+            assertTrue(mapped.isClosed());
+            assertThrows(IllegalStateException.class, () -> mapped.get(0));
+            assertDoesNotThrow(mapped::close);
+        }
+
+        @Test
+        void shouldStopReaders_when_closedWhileBeingRead() throws Exception {
+            IntArrayList list = new IntArrayList();
+            for (int i = 0; i < 1_000; i++) {
+                list.add(i);
+            }
+            Path file = dir.resolve("ints.bin");
+            ListFiles.save(list, file);
+            MappedIntList mapped = ListFiles.openInts(file);
+            CountDownLatch reading = new CountDownLatch(4);
+            ExecutorService readers = Executors.newFixedThreadPool(4);
+            List<Future<Long>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(readers.submit(() -> {
+                    long sum = 0;
+                    reading.countDown();
+                    try {
+                        while (true) {
+                            for (int i = 0; i < 1_000; i++) {
+                                assertEquals(i, mapped.get(i));
+                                sum += i;
+                            }
+                        }
+                    } catch (IllegalStateException ex) {
+                        return sum;
+                    }
+                }));
+            }
+
+            reading.await();
+            mapped.close();
+
+            for (Future<Long> result : results) {
+                assertTrue(result.get(10, TimeUnit.SECONDS) >= 0);
+            }
+            readers.shutdown();
+            assertTrue(mapped.isClosed());
+        }
+    }
+}
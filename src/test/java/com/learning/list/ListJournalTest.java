@@ -0,0 +1,233 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListJournalTest {
+    private MyArrayList<Integer> list;
+    private ListJournal<Integer> journal;
+    private MyArrayList<Integer> replica;
+
+    @BeforeEach
+    void setUp() {
+        list = new MyArrayList<>();
+        journal = list.enableJournal(16);
+        replica = new MyArrayList<>();
+    }
+
+    @Nested
+    class CapacityValidatorTest {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1, (1 << 30) + 1})
+        void shouldThrowIllegalArgumentException_when_capacityIsWrong(int capacity) {
+            assertThrows(IllegalArgumentException.class, () -> new MyArrayList<>().enableJournal(capacity));
+        }
+
+        @Test
+        void shouldRoundCapacityUpToPowerOfTwo() {
+            assertEquals(16, journal.capacity());
+            assertEquals(128, new MyArrayList<>().enableJournal(100).capacity());
+        }
+
+        @Test
+        void shouldThrowIllegalStateException_when_enabledTwice() {
+            assertSame(journal, list.journal());
+            assertThrows(IllegalStateException.class, () -> list.enableJournal(16));
+        }
+
+        @Test
+        void shouldThrowIllegalArgumentException_when_sequenceIsWrong() {
+            list.add(1);
+
+            assertThrows(IllegalArgumentException.class, () -> journal.changesSince(-1));
+            assertThrows(IllegalArgumentException.class, () -> journal.changesSince(2));
+        }
+    }
+
+    /**
+     * incremental constraints:
+     * add, add(int,E), set, remove, clear -> one entry each, one sequence number each;
+     * changes since a sequence -> only the newer entries, in order;
+     * applying the changes -> replica equal to the list;
+     * mutations through iterators and subList views -> recorded like direct calls;
+     */
+    @Nested
+    class IncrementalTests {
+
+        @Test
+        void shouldRecordEachMutation() {
+            list.add(1);
+            list.add(0, 2);
+            list.set(1, 3);
+            list.remove(0);
+            list.clear();
+
+            ListJournal.Changes<Integer> changes = journal.changesSince(0);
+
+            assertFalse(changes.isSnapshot());
+            assertEquals(0, changes.from());
+            assertEquals(5, changes.to());
+            assertEquals(5, journal.sequence());
+            assertEquals(List.of(ListJournal.Op.ADD, ListJournal.Op.INSERT, ListJournal.Op.SET,
+                            ListJournal.Op.REMOVE, ListJournal.Op.CLEAR),
+                    List.of(changes.op(0), changes.op(1), changes.op(2), changes.op(3), changes.op(4)));
+            assertEquals(1, changes.index(2));
+            assertEquals(3, changes.value(2));
+            assertNull(changes.value(3));
+        }
+
+        @Test
+        void shouldReplicateOnlyNewChanges() {
+            list.add(1);
+            list.add(2);
+            ListJournal.Changes<Integer> first = journal.changesSince(0);
+            first.applyTo(replica);
+
+            list.set(0, 10);
+            list.add(1, 15);
+            ListJournal.Changes<Integer> second = journal.changesSince(first.to());
+            second.applyTo(replica);
+
+            assertEquals(2, second.size());
+            assertEquals(List.of(10, 15, 2), replica);
+            assertEquals(0, journal.changesSince(second.to()).size());
+        }
+
+        @Test
+        void shouldRecordIteratorSubListAndRangeMutations() {
+            list.addAll(List.of(1, 2, 3, 4, 5));
+            ListIterator<Integer> it = list.listIterator();
+            it.next();
+            it.remove();
+            it.next();
+            it.set(20);
+            it.add(25);
+            list.subList(1, 3).set(0, 30);
+            list.subList(3, 5).clear();
+
+            journal.changesSince(0).applyTo(replica);
+
+            assertFalse(journal.changesSince(0).isSnapshot());
+            assertEquals(list, replica);
+        }
+
+        @Test
+        void shouldKeepReplicaInSync_when_mutatedRandomly() {
+            MyArrayList<Integer> source = new MyArrayList<>();
+            ListJournal<Integer> sourceJournal = source.enableJournal(64);
+            Random random = new Random(7);
+            long synced = 0;
+            for (int round = 0; round < 200; round++) {
+                for (int op = random.nextInt(40); op > 0; op--) {
+                    int choice = random.nextInt(10);
+                    if (source.isEmpty() || choice < 4) {
+                        source.add(random.nextInt(100));
+                    } else if (choice < 6) {
+                        source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+                    } else if (choice < 8) {
+                        source.set(random.nextInt(source.size()), random.nextInt(100));
+                    } else if (choice < 9) {
+                        source.remove(random.nextInt(source.size()));
+                    } else if (random.nextInt(20) == 0) {
+                        source.clear();
+                    }
+                }
+                ListJournal.Changes<Integer> changes = sourceJournal.changesSince(synced);
+                changes.applyTo(replica);
+                synced = changes.to();
+
+                assertEquals(source, replica);
+            }
+        }
+    }
+
+    /**
+     * snapshot constraints:
+     * replica older than the ring -> snapshot of the whole list;
+     * sort, replaceAll, removeIf and oversized batches -> every older replica gets a snapshot;
+     * journal enabled on a non-empty list -> a new replica gets a snapshot;
+     * op and index of a snapshot -> throw IllegalStateException;
+     */
+    @Nested
+    class SnapshotTests {
+
+        @Test
+        void shouldFallBackToSnapshot_when_journalHasWrapped() {
+            list.add(1);
+            long synced = journal.sequence();
+            for (int i = 0; i < 20; i++) {
+                list.add(i);
+            }
+
+            ListJournal.Changes<Integer> changes = journal.changesSince(synced);
+
+            assertTrue(changes.isSnapshot());
+            assertEquals(21, changes.size());
+            assertEquals(journal.sequence(), changes.to());
+            replica.add(99);
+            changes.applyTo(replica);
+            assertEquals(list, replica);
+            assertThrows(IllegalStateException.class, () -> changes.op(0));
+            assertThrows(IllegalStateException.class, () -> changes.index(0));
+            assertFalse(journal.changesSince(journal.sequence() - 16).isSnapshot());
+        }
+
+        @Test
+        void shouldFallBackToSnapshot_when_listIsRewritten() {
+            list.addAll(List.of(3, 1, 2));
+            long synced = journal.sequence();
+
+            list.sort(Comparator.naturalOrder());
+            assertTrue(journal.changesSince(synced).isSnapshot());
+            synced = journal.sequence();
+
+            list.replaceAll(e -> e * 2);
+            assertTrue(journal.changesSince(synced).isSnapshot());
+            synced = journal.sequence();
+
+            list.removeIf(e -> e > 4);
+            ListJournal.Changes<Integer> changes = journal.changesSince(synced);
+            assertTrue(changes.isSnapshot());
+            changes.applyTo(replica);
+            assertEquals(List.of(2, 4), replica);
+
+            list.add(8);
+            assertFalse(journal.changesSince(changes.to()).isSnapshot());
+        }
+
+        @Test
+        void shouldFallBackToSnapshot_when_batchExceedsCapacity() {
+            for (int i = 0; i < 20; i++) {
+                replica.add(i);
+            }
+            list.addAll(replica);
+
+            assertTrue(journal.changesSince(0).isSnapshot());
+            assertEquals(journal.sequence(), journal.oldestSequence());
+        }
+
+        @Test
+        void shouldSendSnapshot_when_enabledOnNonEmptyList() {
+            MyArrayList<Integer> filled = new MyArrayList<>();
+            filled.add(1);
+            filled.add(2);
+
+            ListJournal.Changes<Integer> changes = filled.enableJournal(8).changesSince(0);
+            changes.applyTo(replica);
+
+            assertTrue(changes.isSnapshot());
+            assertEquals(List.of(1, 2), replica);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListMetricsRecorderTest {
+    private ListMetricsRecorder metrics;
+    private MyArrayList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new ListMetricsRecorder();
+        list = new MyArrayList<>(2, GrowthPolicy.DEFAULT, metrics);
+    }
+
+    /**
+     * grow constraints:
+     * every grow -> counted, elements copied and bytes (4 per reference) recorded;
+     * ensureCapacity -> counted as a grow;
+     */
+    @Nested
+    class GrowTests {
+
+        @Test
+        void shouldCountGrowsAndCopiedElements() {
+            for (int i = 0; i < 5; i++) {
+                list.add(i);
+            }
+
+            // capacity 2 -> 4 (copies 2) -> 7 (copies 4)
+            assertEquals(2, metrics.growCount());
+            assertEquals(6, metrics.elementsCopied());
+            assertEquals(24, metrics.bytesCopied());
+        }
+
+        @Test
+        void shouldCountExplicitGrow() {
+            list.add(1);
+            list.ensureCapacity(100);
+
+            assertEquals(1, metrics.growCount());
+            assertEquals(1, metrics.elementsCopied());
+        }
+    }
+
+    /**
+     * shift constraints:
+     * add(int, E), remove(int), removeRange and addAll(int, ...) -> shift distance recorded;
+     * append -> no shift;
+     */
+    @Nested
+    class ShiftTests {
+
+        @Test
+        void shouldRecordShiftDistances() {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+            assertEquals(0, metrics.shiftCount());
+
+            list.add(0, -1);
+            list.remove(10);
+            list.removeRange(0, 2);
+            list.addAll(1, List.of(7, 8));
+
+            assertEquals(4, metrics.shiftCount());
+            assertEquals(10 + 0 + 8 + 7, metrics.totalShiftDistance());
+            assertEquals(25 / 4.0, metrics.averageShiftDistance());
+
+            long[] histogram = metrics.shiftHistogram();
+            assertEquals(1, histogram[0]);
+            assertEquals(1, histogram[3]);
+            assertEquals(2, histogram[4]);
+        }
+
+        @ParameterizedTest
+        @CsvSource({"0, 0", "1, 1", "2, 2", "3, 2", "4, 3", "1023, 10", "1024, 11", "2147483647, 31"})
+        void shouldPlaceDistanceInPowerOfTwoBucket(int distance, int bucket) {
+            assertEquals(bucket, ListMetricsRecorder.bucketOf(distance));
+        }
+    }
+
+    @Test
+    void shouldCountConcurrentModifications() {
+        list.add(1);
+        list.add(2);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.add(3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(ConcurrentModificationException.class, () -> list.forEach(x -> list.add(x)));
+        assertEquals(2, metrics.concurrentModificationCount());
+    }
+
+    @Test
+    void shouldResetAllCounters() {
+        for (int i = 0; i < 5; i++) {
+            list.add(0, i);
+        }
+
+        metrics.reset();
+
+        assertEquals(0, metrics.growCount());
+        assertEquals(0, metrics.bytesCopied());
+        assertEquals(0, metrics.shiftCount());
+        assertEquals(0, metrics.averageShiftDistance());
+        assertArrayEquals(new long[ListMetricsRecorder.HISTOGRAM_BUCKETS], metrics.shiftHistogram());
+    }
+
+    @Test
+    void shouldShareRecorderBetweenLists() {
+        MyArrayList<Integer> other = new MyArrayList<>(0, GrowthPolicy.DEFAULT, metrics);
+        other.add(1);
+        list.add(1);
+        list.add(2);
+        list.add(3);
+
+        assertEquals(2, metrics.growCount());
+    }
+}
@@ -0,0 +1,159 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListStreamsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shouldRoundTripThroughStreamsAcrossManyChunks() throws IOException, NoSuchFieldException, IllegalAccessException {
+        MyArrayList<Long> list = new MyArrayList<>();
+        for (long i = 0; i < 50_000; i++) {
+            list.add(i * i);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ListStreams.writeTo(list, ElementCodec.LONG, out);
+
+        assertEquals(ListFiles.HEADER_SIZE + 50_000 * Long.BYTES, out.size());
+        MyArrayList<Long> copy = ListStreams.readFrom(new ByteArrayInputStream(out.toByteArray()), ElementCodec.LONG);
+        assertEquals(50_000, copy.size());
+        for (int i = 0; i < 50_000; i++) {
+            assertEquals((long) i * i, copy.get(i));
+        }
+        assertEquals(50_000, ((Object[]) getFieldValue(copy, "elementData")).length);
+    }
+
+    @Test
+    void shouldRoundTripEmptyList() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ListStreams.writeTo(new MyArrayList<>(), ElementCodec.INT, out);
+
+        assertTrue(ListStreams.readFrom(new ByteArrayInputStream(out.toByteArray()), ElementCodec.INT).isEmpty());
+    }
+
+    @Test
+    void shouldAppendIntoExistingList() throws IOException {
+        MyArrayList<Integer> source = new MyArrayList<>();
+        source.add(3);
+        source.add(4);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListStreams.writeTo(source, ElementCodec.INT, out);
+        MyArrayList<Integer> target = new MyArrayList<>();
+        target.add(1);
+        target.add(2);
+
+        int read = ListStreams.readInto(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), ElementCodec.INT, target);
+
+        assertEquals(2, read);
+        assertEquals(4, target.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i + 1, target.get(i));
+        }
+    }
+
+    @Test
+    void shouldReadConsecutiveListsFromOneStream() throws IOException {
+        MyArrayList<Integer> first = new MyArrayList<>();
+        first.add(1);
+        MyArrayList<Integer> second = new MyArrayList<>();
+        second.add(2);
+        second.add(3);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListStreams.writeTo(first, ElementCodec.INT, out);
+        ListStreams.writeTo(second, ElementCodec.INT, out);
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+
+        assertEquals(1, ListStreams.readFrom(in, ElementCodec.INT).size());
+        assertEquals(2, ListStreams.readFrom(in, ElementCodec.INT).size());
+    }
+
+    @Test
+    void shouldReadListSavedToFile() throws IOException {
+        MyArrayList<Double> list = new MyArrayList<>();
+        list.add(1.5);
+        list.add(-2.5);
+        Path file = dir.resolve("doubles.bin");
+        ListFiles.save(list, ElementCodec.DOUBLE, file);
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            MyArrayList<Double> copy = ListStreams.readFrom(channel, ElementCodec.DOUBLE);
+            assertEquals(1.5, copy.get(0));
+            assertEquals(-2.5, copy.get(1));
+        }
+    }
+
+    @Test
+    void shouldReserveCapacityPerChunk_when_listIsLongerThanPresize() throws IOException, NoSuchFieldException, IllegalAccessException {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            list.add(i);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListStreams.writeTo(list, ElementCodec.INT, out);
+
+        MyArrayList<Integer> copy = ListStreams.readFrom(new ByteArrayInputStream(out.toByteArray()), ElementCodec.INT);
+
+        assertEquals(list, copy);
+        assertEquals(200_000, ((Object[]) getFieldValue(copy, "elementData")).length);
+    }
+
+    @Test
+    void shouldNotPresizeFromHugeHeaderCount() throws IOException {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListStreams.writeTo(list, ElementCodec.INT, out);
+        byte[] bytes = out.toByteArray();
+        ByteBuffer.wrap(bytes).order(ListFiles.BYTE_ORDER).putLong(16, MyArrayList.MAX_ARRAY_SIZE);
+
+        assertThrows(EOFException.class, () -> ListStreams.readFrom(new ByteArrayInputStream(bytes), ElementCodec.INT));
+        assertThrows(EOFException.class, () -> ListStreams.readInto(Channels.newChannel(new ByteArrayInputStream(bytes)), ElementCodec.INT, new MyArrayList<>()));
+    }
+
+    @Test
+    void shouldThrowEOFException_when_streamIsTruncated() throws IOException {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(1);
+        list.add(2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListStreams.writeTo(list, ElementCodec.INT, out);
+        byte[] bytes = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+
+        assertThrows(EOFException.class, () -> ListStreams.readFrom(new ByteArrayInputStream(bytes), ElementCodec.INT));
+        assertThrows(EOFException.class, () -> ListStreams.readFrom(new ByteArrayInputStream(new byte[5]), ElementCodec.INT));
+    }
+
+    @Test
+    void shouldThrowIOException_when_codecDoesNotMatch() throws IOException {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListStreams.writeTo(list, ElementCodec.INT, out);
+
+        assertThrows(IOException.class, () -> ListStreams.readFrom(new ByteArrayInputStream(out.toByteArray()), ElementCodec.LONG));
+    }
+
+    private Object getFieldValue(MyArrayList<?> list, String fieldName) throws NoSuchFieldException, IllegalAccessException {
+        Field field = list.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(list);
+    }
+}
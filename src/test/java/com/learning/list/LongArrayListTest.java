@@ -0,0 +1,279 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongArrayListTest {
+    private final String elementDataFieldName = "elementData";
+    private LongArrayList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new LongArrayList();
+    }
+
+    @Nested
+    class CapacityValidatorTest {
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, Integer.MIN_VALUE, Integer.MAX_VALUE - 7})
+        void shouldThrowIllegalArgumentException_when_capacityIsWrong(int capacity) {
+            assertThrows(IllegalArgumentException.class, () -> new LongArrayList(capacity));
+        }
+
+        @Test
+        void shouldCreateDefaultArrayLength_when_constructorIsEmpty() throws NoSuchFieldException, IllegalAccessException {
+            long[] internalArray = (long[]) getFieldValue(list, elementDataFieldName);
+
+            assertEquals(10, internalArray.length);
+        }
+
+        @Test
+        void shouldTrimAndShrinkBuffer() throws NoSuchFieldException, IllegalAccessException {
+            LongArrayList list = new LongArrayList(4);
+            for (int i = 0; i < 50; i++) {
+                list.add((long) i);
+            }
+
+            list.trimToSize();
+            assertEquals(50, ((long[]) getFieldValue(list, elementDataFieldName)).length);
+
+            list.clear(true);
+            assertEquals(4, ((long[]) getFieldValue(list, elementDataFieldName)).length);
+            assertTrue(list.isEmpty());
+        }
+    }
+
+    @Nested
+    class TestingModificationMethods {
+
+        @Test
+        void shouldAddAndGrowBy50Percent() throws NoSuchFieldException, IllegalAccessException {
+            LongArrayList list = new LongArrayList(5);
+            for (int i = 0; i < 10; i++) {
+                assertTrue(list.add((long) i));
+            }
+
+            long[] internalArray = (long[]) getFieldValue(list, elementDataFieldName);
+            assertEquals(13, internalArray.length);
+            assertEquals(10, list.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals((long) i, list.get(i));
+            }
+        }
+
+        @Test
+        void shouldInsertAtPositionAndShiftTail() {
+            list.add((long) 1);
+            list.add((long) 3);
+
+            assertTrue(list.add(1, (long) 2));
+
+            assertEquals(3, list.size());
+            assertArrayEquals(new long[]{1, 2, 3}, list.toArray());
+        }
+
+        @Test
+        void shouldSetValueAndReturnOldValue() {
+            list.add((long) 1);
+
+            assertEquals((long) 1, list.set(0, (long) 7));
+            assertEquals((long) 7, list.get(0));
+        }
+
+        @Test
+        void shouldRemoveAndReturnValue() {
+            list.addAll(new long[]{1, 2, 3, 4});
+
+            assertEquals((long) 2, list.remove(1));
+
+            assertArrayEquals(new long[]{1, 3, 4}, list.toArray());
+        }
+
+        @Test
+        void shouldRemoveRange() {
+            list.addAll(new long[]{1, 2, 3, 4, 5});
+
+            list.removeRange(1, 4);
+
+            assertArrayEquals(new long[]{1, 5}, list.toArray());
+        }
+
+        @Test
+        void shouldAppendList() {
+            LongArrayList other = new LongArrayList();
+            other.addAll(new long[]{3, 4});
+            list.addAll(new long[]{1, 2});
+
+            assertTrue(list.addAll(other));
+            assertTrue(list.addAll(list));
+
+            assertArrayEquals(new long[]{1, 2, 3, 4, 1, 2, 3, 4}, list.toArray());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 1, 10})
+        void shouldThrowIndexOutOfBoundException_when_indexIsWrong(int index) {
+            list.add((long) 1);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, (long) 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.add(index < 0 ? index : index + 1, (long) 1));
+        }
+    }
+
+    @Nested
+    class IterationTests {
+
+        @Test
+        void shouldIterateWithoutBoxing() {
+            list.addAll(new long[]{1, 2, 3});
+            PrimitiveIterator.OfLong it = list.iterator();
+
+            assertEquals((long) 1, it.nextLong());
+            assertEquals((long) 2, it.nextLong());
+            assertEquals((long) 3, it.nextLong());
+            assertFalse(it.hasNext());
+            assertThrows(NoSuchElementException.class, it::nextLong);
+        }
+
+        @Test
+        void shouldRemoveThroughIterator() {
+            list.addAll(new long[]{1, 2, 3});
+            PrimitiveIterator.OfLong it = list.iterator();
+
+            it.nextLong();
+            it.remove();
+
+            assertArrayEquals(new long[]{2, 3}, list.toArray());
+            assertThrows(IllegalStateException.class, it::remove);
+        }
+
+        @Test
+        void shouldThrowConcurrentModificationException_when_listIsModified() {
+            list.addAll(new long[]{1, 2, 3});
+            PrimitiveIterator.OfLong it = list.iterator();
+
+            it.nextLong();
+            list.add((long) 4);
+
+            assertThrows(ConcurrentModificationException.class, it::nextLong);
+        }
+    }
+
+    /**
+     * scan constraints:
+     * indexOf/contains -> first match in [0, size), values past size are ignored;
+     * count/filterInto -> elements in the inclusive range, in order;
+     * selective filterInto -> target grows with the selected elements, not the source size;
+     * fill -> every element replaced, size unchanged;
+     * values beyond the int range -> stored, found, counted and filtered on all 64 bits;
+     */
+    @Nested
+    class ScanTests {
+
+        @Test
+        void shouldFindFirstMatch() {
+            for (int i = 0; i < 100; i++) {
+                list.add((long) (i % 10));
+            }
+
+            assertEquals(7, list.indexOf((long) 7));
+            assertTrue(list.contains((long) 9));
+            assertEquals(-1, list.indexOf((long) 10));
+            assertFalse(list.contains((long) -1));
+        }
+
+        @Test
+        void shouldIgnoreStaleValues_when_searchingAfterRemove() {
+            list.addAll(new long[]{1, 2, 3});
+            list.remove(2);
+
+            assertEquals(-1, list.indexOf((long) 3));
+        }
+
+        @Test
+        void shouldCountAndFilterRange() {
+            for (int i = 0; i < 100; i++) {
+                list.add((long) i);
+            }
+            LongArrayList target = new LongArrayList(1);
+            target.add((long) -1);
+
+            assertEquals(11, list.count((long) 20, (long) 30));
+            assertEquals(11, list.filterInto((long) 20, (long) 30, target));
+            assertEquals(12, target.size());
+            assertEquals((long) -1, target.get(0));
+            assertEquals((long) 20, target.get(1));
+            assertEquals((long) 30, target.get(11));
+            assertEquals(0, list.filterInto((long) 200, (long) 300, target));
+        }
+
+        @Test
+        void shouldGrowTargetWithSelection_when_filterIsSelective() throws NoSuchFieldException, IllegalAccessException {
+            for (int i = 0; i < 100_000; i++) {
+                list.add((long) i);
+            }
+            LongArrayList target = new LongArrayList();
+
+            assertEquals(10, list.filterInto((long) 99_990, (long) 99_999, target));
+
+            assertEquals((long) 99_990, target.get(0));
+            assertEquals((long) 99_999, target.get(9));
+            assertTrue(((long[]) getFieldValue(target, elementDataFieldName)).length <= 1 << 13);
+            assertEquals(100_000, list.filterInto((long) 0, (long) 100_000, target));
+            assertEquals(100_010, target.size());
+            assertEquals((long) 99_999, target.get(100_009));
+        }
+
+        @Test
+        void shouldFillElements() {
+            list.addAll(new long[]{1, 2, 3});
+
+            list.fill((long) 5);
+
+            assertEquals(3, list.size());
+            assertEquals(3, list.count((long) 5, (long) 5));
+        }
+
+        @Test
+        void shouldHandleValuesBeyondIntRange() {
+            long base = 1L << 40;
+            for (int i = 0; i < 100; i++) {
+                list.add(base + i);
+            }
+            list.set(98, Long.MIN_VALUE);
+            list.set(99, Long.MAX_VALUE);
+            LongArrayList target = new LongArrayList();
+
+            assertEquals(base + 7, list.get(7));
+            assertEquals(7, list.indexOf(base + 7));
+            assertEquals(-1, list.indexOf(7));
+            assertEquals(98, list.indexOf(Long.MIN_VALUE));
+            assertEquals(11, list.count(base + 20, base + 30));
+            assertEquals(0, list.count(20, 30));
+            assertEquals(1, list.count(Long.MAX_VALUE, Long.MAX_VALUE));
+            assertEquals(100, list.count(Long.MIN_VALUE, Long.MAX_VALUE));
+            assertEquals(2, list.filterInto(base + 97, Long.MAX_VALUE, target));
+            assertEquals(base + 97, target.get(0));
+            assertEquals(Long.MAX_VALUE, target.get(1));
+        }
+    }
+
+    private Object getFieldValue(LongArrayList list, String fieldName) throws NoSuchFieldException, IllegalAccessException {
+        Field field = list.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(list);
+    }
+}
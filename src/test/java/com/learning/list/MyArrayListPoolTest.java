@@ -0,0 +1,221 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyArrayListPoolTest {
+    private final String elementDataFieldName = "elementData";
+    private MyArrayListPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new MyArrayListPool(1 << 10, 2);
+    }
+
+    @Nested
+    class CapacityValidatorTest {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1, (1 << 30) + 1})
+        void shouldThrowIllegalArgumentException_when_maxCapacityIsWrong(int maxCapacity) {
+            assertThrows(IllegalArgumentException.class, () -> new MyArrayListPool(maxCapacity, 1));
+        }
+
+        @Test
+        void shouldThrowIllegalArgumentException_when_depthIsWrong() {
+            assertThrows(IllegalArgumentException.class, () -> new MyArrayListPool(16, 0));
+        }
+
+        @Test
+        void shouldThrowIllegalArgumentException_when_capacityIsWrong() {
+            assertThrows(IllegalArgumentException.class, () -> pool.acquire(-1));
+        }
+    }
+
+    /**
+     * lifecycle constraints:
+     * acquire -> empty list with a power-of-two buffer of at least the requested capacity;
+     * release -> list reset, buffer and instance reused by the next acquire;
+     * release of a journaled list -> journal dropped, next owner can enable its own;
+     * release of a foreign list -> throw IllegalArgumentException;
+     * second release of the same list -> throw IllegalStateException, instance pooled once;
+     * iterator over a released list -> throw ConcurrentModificationException;
+     */
+    @Nested
+    class LifecycleTests {
+
+        @Test
+        void shouldRoundBufferUpToSizeClass() throws NoSuchFieldException, IllegalAccessException {
+            MyArrayList<Integer> list = pool.acquire(100);
+
+            assertTrue(list.isEmpty());
+            assertEquals(128, ((Object[]) getFieldValue(list, elementDataFieldName)).length);
+        }
+
+        @Test
+        void shouldReuseInstanceAndBuffer_when_released() throws NoSuchFieldException, IllegalAccessException {
+            MyArrayList<Integer> list = pool.acquire(20);
+            list.add(1);
+            list.add(2);
+            Object[] buffer = (Object[]) getFieldValue(list, elementDataFieldName);
+
+            pool.release(list);
+            assertEquals(1, pool.pooledBuffers(32));
+            assertNull(buffer[0]);
+            assertNull(buffer[1]);
+
+            MyArrayList<Integer> reused = pool.acquire(20);
+
+            assertSame(list, reused);
+            assertSame(buffer, getFieldValue(reused, elementDataFieldName));
+            assertTrue(reused.isEmpty());
+            assertEquals(0, pool.pooledBuffers(32));
+        }
+
+        @Test
+        void shouldThrowIllegalArgumentException_when_listIsForeign() {
+            assertThrows(IllegalArgumentException.class, () -> pool.release(new MyArrayList<>()));
+            assertThrows(IllegalArgumentException.class, () -> new MyArrayListPool().release(pool.acquire()));
+        }
+
+        @Test
+        void shouldThrowIllegalStateException_when_releasedTwice() {
+            MyArrayList<Integer> list = pool.acquire();
+            pool.release(list);
+
+            assertThrows(IllegalStateException.class, () -> pool.release(list));
+
+            MyArrayList<Integer> first = pool.acquire();
+            MyArrayList<Integer> second = pool.acquire();
+            assertSame(list, first);
+            assertNotSame(first, second);
+            pool.release(first);
+            assertDoesNotThrow(() -> pool.release(second));
+        }
+
+        @Test
+        void shouldFailFast_when_iteratingReleasedList() {
+            MyArrayList<Integer> list = pool.acquire();
+            list.add(1);
+            Iterator<Integer> iterator = list.iterator();
+
+            pool.release(list);
+
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+
+        @Test
+        void shouldDropJournal_when_released() {
+            MyArrayList<Integer> list = pool.acquire();
+            ListJournal<Integer> journal = list.enableJournal(16);
+            list.add(1);
+            long sequence = journal.sequence();
+
+            pool.release(list);
+            MyArrayList<Integer> reused = pool.acquire();
+            reused.add(2);
+
+            assertSame(list, reused);
+            assertNull(reused.journal());
+            assertEquals(sequence, journal.sequence());
+            assertNotSame(journal, reused.enableJournal(16));
+        }
+
+        @Test
+        void shouldKeepAtMostDepthBuffersPerSizeClass() {
+            MyArrayList<Integer> first = pool.acquire();
+            MyArrayList<Integer> second = pool.acquire();
+            MyArrayList<Integer> third = pool.acquire();
+
+            pool.release(first);
+            pool.release(second);
+            pool.release(third);
+
+            assertEquals(2, pool.pooledBuffers(16));
+        }
+    }
+
+    /**
+     * growth constraints:
+     * pooled list grows -> elements kept, outgrown buffer cleared and returned to the pool;
+     * pooled list adds itself and grows -> both copies of the elements kept;
+     * buffers larger than the pool limit -> allocated and dropped, never pooled;
+     */
+    @Nested
+    class GrowthTests {
+
+        @Test
+        void shouldRecycleOutgrownBuffer() throws NoSuchFieldException, IllegalAccessException {
+            MyArrayList<Integer> list = pool.acquire();
+            Object[] initial = (Object[]) getFieldValue(list, elementDataFieldName);
+            for (int i = 0; i < 17; i++) {
+                list.add(i);
+            }
+
+            for (int i = 0; i < 17; i++) {
+                assertEquals(i, list.get(i));
+            }
+            assertEquals(1, pool.pooledBuffers(16));
+            for (Object slot : initial) {
+                assertNull(slot);
+            }
+            assertSame(initial, getFieldValue(pool.acquire(), elementDataFieldName));
+        }
+
+        @Test
+        void shouldKeepElements_when_pooledListAddsItselfAndGrows() {
+            MyArrayList<Integer> list = pool.acquire();
+            for (int i = 0; i < 16; i++) {
+                list.add(i);
+            }
+
+            list.addAll(list);
+
+            assertEquals(32, list.size());
+            for (int i = 0; i < 32; i++) {
+                assertEquals(i % 16, list.get(i));
+            }
+        }
+
+        @Test
+        void shouldNotPoolBuffersAboveLimit() {
+            MyArrayList<Integer> list = pool.acquire(5000);
+            for (int i = 0; i < 5000; i++) {
+                list.add(i);
+            }
+
+            pool.release(list);
+
+            assertEquals(0, pool.pooledBuffers(5000));
+        }
+
+        @Test
+        void shouldKeepBucketsPerThread() throws InterruptedException {
+            pool.release(pool.acquire());
+            AtomicReference<Integer> otherThread = new AtomicReference<>();
+
+            Thread thread = new Thread(() -> otherThread.set(pool.pooledBuffers(16)));
+            thread.start();
+            thread.join();
+
+            assertEquals(0, otherThread.get());
+            assertEquals(1, pool.pooledBuffers(16));
+        }
+    }
+
+    private Object getFieldValue(MyArrayList<?> list, String fieldName) throws NoSuchFieldException, IllegalAccessException {
+        Field field = MyArrayList.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(list);
+    }
+}
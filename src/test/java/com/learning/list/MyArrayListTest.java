@@ -7,8 +7,20 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.lang.reflect.Field;
+import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -58,6 +70,108 @@ class MyArrayListTest {
         }
     }
 
+    /**
+     * capacity management constraints:
+     * ensureCapacity -> buffer can hold the given number of elements, contents are kept;
+     * trimToSize -> buffer length equals size;
+     * clear(true) -> buffer shrinks back to the initial capacity;
+     * a custom growth policy is used when the buffer is full;
+     */
+    @Nested
+    class CapacityManagementTest {
+
+        @Test
+        void shouldEnsureCapacityAndKeepElements() throws NoSuchFieldException, IllegalAccessException {
+            list.add(1);
+            list.add(2);
+
+            list.ensureCapacity(1000);
+
+            Object[] internalArray = (Object[]) getFieldValue(list, elementDataFieldName);
+            assertEquals(1000, internalArray.length);
+            assertEquals(2, list.size());
+            assertEquals(1, list.get(0));
+            assertEquals(2, list.get(1));
+        }
+
+        @Test
+        void shouldNotShrink_when_ensuringSmallerCapacity() throws NoSuchFieldException, IllegalAccessException {
+            list.ensureCapacity(5);
+
+            Object[] internalArray = (Object[]) getFieldValue(list, elementDataFieldName);
+            assertEquals(10, internalArray.length);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, Integer.MIN_VALUE, Integer.MAX_VALUE - 7, Integer.MAX_VALUE})
+        void shouldThrowIllegalArgumentException_when_ensuringInvalidCapacity(int capacity) {
+            assertThrows(IllegalArgumentException.class, () -> list.ensureCapacity(capacity));
+        }
+
+        @Test
+        void shouldTrimToSize() throws NoSuchFieldException, IllegalAccessException {
+            list.add(1);
+            list.add(2);
+            list.add(3);
+
+            list.trimToSize();
+
+            Object[] internalArray = (Object[]) getFieldValue(list, elementDataFieldName);
+            assertEquals(3, internalArray.length);
+            assertEquals(3, list.size());
+            assertTrue(list.add(4));
+            assertEquals(4, list.get(3));
+        }
+
+        @Test
+        void shouldShrinkToInitialCapacity_when_clearingWithShrink() throws NoSuchFieldException, IllegalAccessException {
+            MyArrayList<Integer> list = new MyArrayList<>(4);
+            for (int i = 0; i < 100; i++) {
+                list.add(i);
+            }
+
+            list.clear(true);
+
+            Object[] internalArray = (Object[]) getFieldValue(list, elementDataFieldName);
+            Integer modCount = (Integer) getFieldValue(list, modCountFieldName);
+            assertEquals(4, internalArray.length);
+            assertEquals(0, list.size());
+            assertEquals(101, modCount);
+        }
+
+        @Test
+        void shouldKeepBuffer_when_clearingWithoutShrink() throws NoSuchFieldException, IllegalAccessException {
+            MyArrayList<Integer> list = new MyArrayList<>(4);
+            for (int i = 0; i < 100; i++) {
+                list.add(i);
+            }
+            int grownLength = ((Object[]) getFieldValue(list, elementDataFieldName)).length;
+
+            list.clear(false);
+
+            Object[] internalArray = (Object[]) getFieldValue(list, elementDataFieldName);
+            assertEquals(grownLength, internalArray.length);
+            assertEquals(0, list.size());
+        }
+
+        @Test
+        void shouldGrowWithCustomPolicy() throws NoSuchFieldException, IllegalAccessException {
+            MyArrayList<Integer> list = new MyArrayList<>(2, GrowthPolicy.fixedIncrement(3));
+            for (int i = 0; i < 6; i++) {
+                list.add(i);
+            }
+
+            Object[] internalArray = (Object[]) getFieldValue(list, elementDataFieldName);
+            assertEquals(8, internalArray.length);
+            assertEquals(6, list.size());
+        }
+
+        @Test
+        void shouldThrowNullPointerException_when_policyIsNull() {
+            assertThrows(NullPointerException.class, () -> new MyArrayList<>(10, null));
+        }
+    }
+
     /**
      * method ADD constraints:
      * if size == capacity -> grow an array by 50% and add an object;
@@ -149,7 +263,7 @@ class MyArrayListTest {
             for (Integer val : array) {
                 assertTrue(list.add(val));
             }
-            assertTrue(list.add(4, addingValue));
+            list.add(4, addingValue);
             Integer modCount = (Integer) getFieldValue(list, modCountFieldName);
             assertEquals(expectedLength, internalArray.length);
             assertEquals(array.length + 1, list.size());
@@ -185,6 +299,116 @@ class MyArrayListTest {
 
     }
 
+    /**
+     * method ADD_ALL constraints:
+     * the buffer grows at most once per call and modCount is increased once;
+     * adding an empty source -> list and modCount are unchanged, returns false;
+     * adding at a position -> the tail is shifted after the inserted elements;
+     */
+    @Nested
+    class TestingAddAllMethod {
+
+        @Test
+        void shouldAppendCollectionWithSingleGrowth() throws NoSuchFieldException, IllegalAccessException {
+            MyArrayList<Integer> list = new MyArrayList<>(2);
+            list.add(1);
+            list.add(2);
+
+            assertTrue(list.addAll(List.of(3, 4, 5, 6, 7, 8, 9, 10, 11, 12)));
+
+            Object[] internalArray = (Object[]) getFieldValue(list, elementDataFieldName);
+            Integer modCount = (Integer) getFieldValue(list, modCountFieldName);
+            assertEquals(12, internalArray.length);
+            assertEquals(12, list.size());
+            assertEquals(3, modCount);
+            for (int i = 0; i < 12; i++) {
+                assertEquals(i + 1, list.get(i));
+            }
+        }
+
+        @Test
+        void shouldInsertCollectionAtPositionAndShiftTail() throws NoSuchFieldException, IllegalAccessException {
+            int[] array = {1, 2, 5, 6};
+            for (int val : array) {
+                list.add(val);
+            }
+
+            assertTrue(list.addAll(2, List.of(3, 4)));
+
+            Integer modCount = (Integer) getFieldValue(list, modCountFieldName);
+            assertEquals(6, list.size());
+            assertEquals(array.length + 1, modCount);
+            for (int i = 0; i < 6; i++) {
+                assertEquals(i + 1, list.get(i));
+            }
+        }
+
+        @Test
+        void shouldAppendArray() {
+            list.add(1);
+
+            assertTrue(list.addAll(new Integer[]{2, null, 4}));
+
+            assertEquals(4, list.size());
+            assertEquals(2, list.get(1));
+            assertNull(list.get(2));
+            assertEquals(4, list.get(3));
+        }
+
+        @Test
+        void shouldAppendMyArrayList() {
+            MyArrayList<Integer> other = new MyArrayList<>();
+            other.add(3);
+            other.add(4);
+            list.add(1);
+            list.add(2);
+
+            assertTrue(list.addAll(other));
+
+            assertEquals(4, list.size());
+            for (int i = 0; i < 4; i++) {
+                assertEquals(i + 1, list.get(i));
+            }
+            assertEquals(2, other.size());
+        }
+
+        @Test
+        void shouldAppendItself() {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            assertTrue(list.addAll(list));
+
+            assertEquals(20, list.size());
+            for (int i = 0; i < 20; i++) {
+                assertEquals(i % 10, list.get(i));
+            }
+        }
+
+        @Test
+        void shouldReturnFalse_when_sourceIsEmpty() throws NoSuchFieldException, IllegalAccessException {
+            list.add(1);
+
+            assertFalse(list.addAll(List.of()));
+            assertFalse(list.addAll(0, List.of()));
+            assertFalse(list.addAll(new Integer[0]));
+            assertFalse(list.addAll(new MyArrayList<>()));
+
+            Integer modCount = (Integer) getFieldValue(list, modCountFieldName);
+            assertEquals(1, list.size());
+            assertEquals(1, modCount);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 2, 10})
+        void shouldThrowIndexOutOfBoundException_when_indexIsWrong(int index) {
+            list.add(1);
+            assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(index, List.of(1, 2)));
+            assertEquals(1, list.size());
+        }
+    }
+
     @Nested
     class TestingGetArrayMethod {
         @ParameterizedTest
@@ -299,6 +523,113 @@ class MyArrayListTest {
         }
     }
 
+    /**
+     * bulk REMOVE constraints:
+     * kept elements are compacted to the front, vacated slots are nulled out;
+     * modCount is increased once per call, and not at all if nothing was removed;
+     */
+    @Nested
+    class TestingBulkRemoveMethods {
+
+        @BeforeEach
+        void fill() {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+        }
+
+        @Test
+        void shouldRemoveRangeAndNullOutVacatedSlots() throws NoSuchFieldException, IllegalAccessException {
+            list.removeRange(2, 5);
+
+            Object[] internalArray = (Object[]) getFieldValue(list, elementDataFieldName);
+            Integer modCount = (Integer) getFieldValue(list, modCountFieldName);
+            assertEquals(7, list.size());
+            assertEquals(11, modCount);
+            int[] expected = {0, 1, 5, 6, 7, 8, 9};
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], list.get(i));
+            }
+            for (int i = list.size(); i < internalArray.length; i++) {
+                assertNull(internalArray[i]);
+            }
+        }
+
+        @Test
+        void shouldDoNothing_when_rangeIsEmpty() throws NoSuchFieldException, IllegalAccessException {
+            list.removeRange(3, 3);
+
+            Integer modCount = (Integer) getFieldValue(list, modCountFieldName);
+            assertEquals(10, list.size());
+            assertEquals(10, modCount);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 11, 6})
+        void shouldThrowIndexOutOfBoundException_when_rangeIsWrong(int fromIndex) {
+            assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(fromIndex, fromIndex == 6 ? 5 : 10));
+            assertEquals(10, list.size());
+        }
+
+        @Test
+        void shouldRemoveMatchingElementsInSinglePass() throws NoSuchFieldException, IllegalAccessException {
+            assertTrue(list.removeIf(e -> e % 2 == 0));
+
+            Object[] internalArray = (Object[]) getFieldValue(list, elementDataFieldName);
+            Integer modCount = (Integer) getFieldValue(list, modCountFieldName);
+            assertEquals(5, list.size());
+            assertEquals(11, modCount);
+            for (int i = 0; i < 5; i++) {
+                assertEquals(2 * i + 1, list.get(i));
+            }
+            for (int i = list.size(); i < internalArray.length; i++) {
+                assertNull(internalArray[i]);
+            }
+        }
+
+        @Test
+        void shouldReturnFalse_when_nothingMatches() throws NoSuchFieldException, IllegalAccessException {
+            assertFalse(list.removeIf(e -> e > 100));
+
+            Integer modCount = (Integer) getFieldValue(list, modCountFieldName);
+            assertEquals(10, list.size());
+            assertEquals(10, modCount);
+        }
+
+        @Test
+        void shouldKeepUntestedElements_when_filterThrows() {
+            assertThrows(IllegalStateException.class, () -> list.removeIf(e -> {
+                if (e == 5) {
+                    throw new IllegalStateException();
+                }
+                return e < 3;
+            }));
+
+            assertEquals(7, list.size());
+            for (int i = 0; i < 7; i++) {
+                assertEquals(i + 3, list.get(i));
+            }
+        }
+
+        @Test
+        void shouldRemoveAllContainedElements() {
+            assertTrue(list.removeAll(List.of(1, 3, 42)));
+
+            assertEquals(8, list.size());
+            assertEquals(2, list.get(1));
+            assertEquals(4, list.get(2));
+        }
+
+        @Test
+        void shouldRetainOnlyContainedElements() {
+            assertTrue(list.retainAll(List.of(1, 3, 42)));
+
+            assertEquals(2, list.size());
+            assertEquals(1, list.get(0));
+            assertEquals(3, list.get(1));
+        }
+    }
+
     @Nested
     class TestingClearMethod {
         @Test
@@ -414,6 +745,447 @@ class MyArrayListTest {
         }
     }
 
+    /**
+     * internal iteration constraints:
+     * elements are visited in order, modCount is not changed;
+     * a structural modification by the action -> ConcurrentModificationException after the loop;
+     */
+    @Nested
+    class InternalIterationTests {
+
+        @BeforeEach
+        void fill() {
+            for (int i = 0; i < 5; i++) {
+                list.add(i);
+            }
+        }
+
+        @Test
+        void shouldVisitEveryElementInOrder() {
+            StringBuilder order = new StringBuilder();
+
+            list.forEach(order::append);
+
+            assertEquals("01234", order.toString());
+        }
+
+        @Test
+        void shouldVisitRangeInOrder() {
+            StringBuilder order = new StringBuilder();
+
+            list.forEachRange(1, 4, order::append);
+
+            assertEquals("123", order.toString());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 6, 4})
+        void shouldThrowIndexOutOfBoundException_when_rangeIsWrong(int fromIndex) {
+            assertThrows(IndexOutOfBoundsException.class, () -> list.forEachRange(fromIndex, fromIndex == 4 ? 3 : 5, e -> {
+            }));
+        }
+
+        @Test
+        void shouldThrowConcurrentModificationException_when_actionModifiesList() {
+            assertThrows(ConcurrentModificationException.class, () -> list.forEach(e -> list.add(e)));
+            assertThrows(ConcurrentModificationException.class, () -> list.forEachRange(0, 2, e -> list.remove(0)));
+        }
+
+        @Test
+        void shouldReplaceAllInPlace() throws NoSuchFieldException, IllegalAccessException {
+            list.replaceAll(e -> e * 10);
+
+            Integer modCount = (Integer) getFieldValue(list, modCountFieldName);
+            assertEquals(5, modCount);
+            assertEquals(5, list.size());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(i * 10, list.get(i));
+            }
+        }
+
+        @Test
+        void shouldThrowConcurrentModificationException_when_operatorModifiesList() {
+            assertThrows(ConcurrentModificationException.class, () -> list.replaceAll(e -> {
+                list.clear();
+                return e;
+            }));
+        }
+    }
+
+    /**
+     * spliterator constraints:
+     * reports ORDERED, SIZED and SUBSIZED, splits in halves until single elements;
+     * binds to the list on first use and fails fast on structural modification;
+     */
+    @Nested
+    class SpliteratorTests {
+
+        @Test
+        void shouldReportSizedCharacteristics() {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+            Spliterator<Integer> spliterator = list.spliterator();
+
+            assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+            assertEquals(10, spliterator.estimateSize());
+        }
+
+        @Test
+        void shouldSplitInHalves() {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+            Spliterator<Integer> right = list.spliterator();
+            Spliterator<Integer> left = right.trySplit();
+
+            assertNotNull(left);
+            assertEquals(5, left.estimateSize());
+            assertEquals(5, right.estimateSize());
+            StringBuilder order = new StringBuilder();
+            left.forEachRemaining(order::append);
+            right.forEachRemaining(order::append);
+            assertEquals("0123456789", order.toString());
+        }
+
+        @Test
+        void shouldNotSplit_when_singleElementLeft() {
+            list.add(1);
+
+            assertNull(list.spliterator().trySplit());
+        }
+
+        @Test
+        void shouldBindLate() {
+            Spliterator<Integer> spliterator = list.spliterator();
+            list.add(1);
+            list.add(2);
+
+            assertEquals(2, spliterator.estimateSize());
+        }
+
+        @Test
+        void shouldThrowConcurrentModificationException_when_listIsModifiedDuringTraversal() {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            assertThrows(ConcurrentModificationException.class,
+                    () -> list.spliterator().forEachRemaining(e -> list.add(e)));
+            assertThrows(ConcurrentModificationException.class,
+                    () -> list.spliterator().tryAdvance(e -> list.remove(0)));
+        }
+
+        @Test
+        void shouldStreamInOrder() {
+            for (int i = 0; i < 5; i++) {
+                list.add(i);
+            }
+
+            assertEquals("0,1,2,3,4", list.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        }
+
+        @Test
+        void shouldAggregateInParallel() {
+            int size = 1_000_000;
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+            }
+
+            long sum = list.parallelStream().mapToLong(Integer::longValue).sum();
+
+            assertEquals((long) size * (size - 1) / 2, sum);
+            assertEquals(size, list.parallelStream().count());
+        }
+    }
+
+    /**
+     * search and sort constraints:
+     * indexOf/lastIndexOf -> first/last matching index or -1, null is supported;
+     * sort -> orders [0, size) in place and increments modCount;
+     * sort with a comparator that modifies the list -> throw ConcurrentModificationException;
+     * binarySearch -> index of the key or (-(insertion point) - 1);
+     */
+    @Nested
+    class SearchAndSortTests {
+
+        @Test
+        void shouldFindFirstAndLastOccurrence() {
+            list.add(1);
+            list.add(null);
+            list.add(2);
+            list.add(1);
+
+            assertEquals(0, list.indexOf(1));
+            assertEquals(3, list.lastIndexOf(1));
+            assertEquals(1, list.indexOf(null));
+            assertEquals(-1, list.indexOf(5));
+            assertEquals(-1, list.lastIndexOf(5));
+            assertTrue(list.contains(2));
+            assertFalse(list.contains(7));
+        }
+
+        @Test
+        void shouldSortInPlace() throws NoSuchFieldException, IllegalAccessException {
+            for (int value : new int[]{5, 3, 9, 1, 7}) {
+                list.add(value);
+            }
+            int modCountBefore = (int) getFieldValue(list, modCountFieldName);
+
+            list.sort(null);
+
+            assertEquals(List.of(1, 3, 5, 7, 9), list.stream().collect(Collectors.toList()));
+            assertEquals(modCountBefore + 1, (int) getFieldValue(list, modCountFieldName));
+
+            list.sort(Comparator.reverseOrder());
+
+            assertEquals(List.of(9, 7, 5, 3, 1), list.stream().collect(Collectors.toList()));
+        }
+
+        @Test
+        void shouldThrowConcurrentModificationException_when_comparatorModifiesList() {
+            list.add(2);
+            list.add(1);
+
+            assertThrows(ConcurrentModificationException.class, () -> list.sort((a, b) -> {
+                list.add(0);
+                return Integer.compare(a, b);
+            }));
+        }
+
+        @Test
+        void shouldBinarySearchSortedList() {
+            for (int i = 0; i < 10; i++) {
+                list.add(i * 2);
+            }
+
+            assertEquals(4, list.binarySearch(8, null));
+            assertEquals(-4, list.binarySearch(5, Comparator.naturalOrder()));
+            assertEquals(-11, list.binarySearch(100, null));
+        }
+
+        @Test
+        void shouldMergeSortedBatchFromTheBack() {
+            list.add(1);
+            list.add(4);
+            list.add(9);
+
+            list.mergeSorted(new Object[]{0, 4, 5, 10}, 4, Comparator.naturalOrder());
+
+            assertEquals(List.of(0, 1, 4, 4, 5, 9, 10), list.stream().collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * parallel bulk constraints:
+     * parallelSort -> same order as a sequential sort, below and above the parallel threshold;
+     * parallelReplaceAll -> every element transformed, modCount unchanged;
+     * structural modification from the operator -> throw ConcurrentModificationException;
+     */
+    @Nested
+    class ParallelBulkTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 100, MyArrayList.PARALLEL_THRESHOLD * 8})
+        void shouldSortLikeSequentialSort(int size) {
+            Random random = new Random(7);
+            MyArrayList<Integer> expected = new MyArrayList<>();
+            for (int i = 0; i < size; i++) {
+                int value = random.nextInt();
+                list.add(value);
+                expected.add(value);
+            }
+            expected.sort(null);
+
+            list.parallelSort(null);
+
+            assertEquals(expected.stream().collect(Collectors.toList()), list.stream().collect(Collectors.toList()));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {10, MyArrayList.PARALLEL_THRESHOLD * 8 + 3})
+        void shouldTransformEveryElement(int size) throws NoSuchFieldException, IllegalAccessException {
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+            }
+            int modCountBefore = (int) getFieldValue(list, modCountFieldName);
+
+            list.parallelReplaceAll(x -> x * 2);
+
+            for (int i = 0; i < size; i++) {
+                assertEquals(i * 2, list.get(i));
+            }
+            assertEquals(modCountBefore, (int) getFieldValue(list, modCountFieldName));
+        }
+
+        @Test
+        void shouldThrowConcurrentModificationException_when_operatorModifiesList() {
+            for (int i = 0; i < MyArrayList.PARALLEL_THRESHOLD * 2; i++) {
+                list.add(i);
+            }
+            MyArrayList<Integer> target = list;
+            AtomicBoolean modified = new AtomicBoolean();
+
+            assertThrows(ConcurrentModificationException.class, () -> target.parallelReplaceAll(x -> {
+                if (modified.compareAndSet(false, true)) {
+                    target.add(-1);
+                }
+                return x;
+            }));
+        }
+
+        @Test
+        void shouldThrowNullPointerException_when_operatorIsNull() {
+            assertThrows(NullPointerException.class, () -> list.parallelReplaceAll(null));
+        }
+    }
+
+    /**
+     * java.util.List constraints:
+     * MyArrayList is a List and RandomAccess and equals any List with the same elements;
+     * toArray -> exact-size copy, or the given array when it is big enough;
+     * listIterator -> traverses both ways, set/add write through, fails fast;
+     * subList -> view sharing elementData, structural changes through the view resize all views;
+     * structural change of the list outside the view -> view throws ConcurrentModificationException;
+     */
+    @Nested
+    class ListConformanceTests {
+
+        @BeforeEach
+        void fill() {
+            for (int i = 0; i < 6; i++) {
+                list.add(i);
+            }
+        }
+
+        @Test
+        void shouldBehaveAsJdkList() {
+            List<Integer> asList = list;
+
+            assertInstanceOf(RandomAccess.class, asList);
+            assertEquals(List.of(0, 1, 2, 3, 4, 5), asList);
+            assertEquals(asList, new ArrayList<>(List.of(0, 1, 2, 3, 4, 5)));
+            assertEquals(List.of(0, 1, 2, 3, 4, 5).hashCode(), asList.hashCode());
+            assertNotEquals(List.of(0, 1, 2), asList);
+            assertEquals("[0, 1, 2, 3, 4, 5]", asList.toString());
+            assertEquals(5, Collections.max(asList));
+            assertTrue(asList.containsAll(List.of(1, 5)));
+            assertFalse(asList.containsAll(List.of(1, 6)));
+        }
+
+        @Test
+        void shouldRemoveObject() {
+            assertTrue(list.remove(Integer.valueOf(3)));
+            assertFalse(list.remove(Integer.valueOf(3)));
+
+            assertEquals(List.of(0, 1, 2, 4, 5), list);
+        }
+
+        @Test
+        void shouldCopyToArrays() {
+            assertArrayEquals(new Object[]{0, 1, 2, 3, 4, 5}, list.toArray());
+
+            Integer[] small = list.toArray(new Integer[0]);
+            assertArrayEquals(new Integer[]{0, 1, 2, 3, 4, 5}, small);
+
+            Integer[] large = new Integer[8];
+            Arrays.fill(large, -1);
+            assertSame(large, list.toArray(large));
+            assertNull(large[6]);
+            assertEquals(-1, large[7]);
+        }
+
+        @Test
+        void shouldIterateBothWaysAndWriteThrough() {
+            ListIterator<Integer> iterator = list.listIterator(6);
+            StringBuilder reversed = new StringBuilder();
+            while (iterator.hasPrevious()) {
+                reversed.append(iterator.previous());
+            }
+            assertEquals("543210", reversed.toString());
+            assertEquals(-1, iterator.previousIndex());
+
+            iterator.next();
+            iterator.set(10);
+            iterator.add(11);
+            assertEquals(2, iterator.nextIndex());
+            assertThrows(IllegalStateException.class, () -> iterator.set(12));
+
+            assertEquals(List.of(10, 11, 1, 2, 3, 4, 5), list);
+            assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(8));
+        }
+
+        @Test
+        void shouldFailFast_when_listIteratorSeesOutsideChange() {
+            ListIterator<Integer> iterator = list.listIterator();
+            iterator.next();
+            list.add(6);
+
+            assertThrows(ConcurrentModificationException.class, iterator::previous);
+        }
+
+        @Test
+        void shouldShareElementsWithSubList() throws NoSuchFieldException, IllegalAccessException {
+            Object[] internalArray = (Object[]) getFieldValue(list, elementDataFieldName);
+            List<Integer> view = list.subList(1, 4);
+
+            assertEquals(List.of(1, 2, 3), view);
+            view.set(0, 100);
+
+            assertEquals(100, internalArray[1]);
+            assertEquals(100, list.get(1));
+            assertSame(internalArray, getFieldValue(list, elementDataFieldName));
+        }
+
+        @Test
+        void shouldResizeEnclosingViews_when_modifiedThroughNestedSubList() {
+            List<Integer> outer = list.subList(1, 5);
+            List<Integer> inner = outer.subList(1, 3);
+
+            inner.add(0, 20);
+            inner.remove(Integer.valueOf(3));
+            inner.addAll(List.of(30, 31));
+
+            assertEquals(List.of(20, 2, 30, 31), inner);
+            assertEquals(List.of(1, 20, 2, 30, 31, 4), outer);
+            assertEquals(List.of(0, 1, 20, 2, 30, 31, 4, 5), list);
+
+            inner.clear();
+
+            assertEquals(List.of(1, 4), outer);
+            assertEquals(List.of(0, 1, 4, 5), list);
+        }
+
+        @Test
+        void shouldFailFast_when_listIsModifiedOutsideSubList() {
+            List<Integer> view = list.subList(0, 3);
+            list.add(6);
+
+            assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+            assertThrows(ConcurrentModificationException.class, view::size);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 7})
+        void shouldThrowIndexOutOfBoundsException_when_subListRangeIsWrong(int index) {
+            assertThrows(IndexOutOfBoundsException.class, () -> list.subList(index, 6));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.subList(0, index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.subList(0, 3).get(3));
+        }
+
+        @Test
+        void shouldSortSubListInPlace() {
+            list.add(0, 9);
+            List<Integer> view = list.subList(0, 4);
+
+            Collections.sort(view);
+
+            assertEquals(List.of(0, 1, 2, 9, 3, 4, 5), list);
+        }
+    }
+
     private Object getFieldValue(MyArrayList<?> list, String fieldName) throws NoSuchFieldException, IllegalAccessException {
         Field field = list.getClass().getDeclaredField(fieldName);
         field.setAccessible(true);
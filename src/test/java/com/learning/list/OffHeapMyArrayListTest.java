@@ -0,0 +1,236 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapMyArrayListTest {
+    private final String bufferFieldName = "buffer";
+    private OffHeapMyArrayList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new OffHeapMyArrayList<>(ElementCodec.INT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        list.close();
+    }
+
+    @Nested
+    class CapacityValidatorTest {
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, Integer.MIN_VALUE, Integer.MAX_VALUE / 4 + 1})
+        void shouldThrowIllegalArgumentException_when_capacityIsWrong(int capacity) {
+            assertThrows(IllegalArgumentException.class, () -> new OffHeapMyArrayList<>(ElementCodec.INT, capacity));
+        }
+
+        @Test
+        void shouldAllocateDirectBufferOfDefaultCapacity() throws NoSuchFieldException, IllegalAccessException {
+            ByteBuffer buffer = (ByteBuffer) getFieldValue(list, bufferFieldName);
+
+            assertTrue(buffer.isDirect());
+            assertEquals(10 * Integer.BYTES, buffer.capacity());
+        }
+
+        @Test
+        void shouldThrowIllegalArgumentException_when_codecWidthIsWrong() {
+            ElementCodec<String> codec = new ElementCodec<>() {
+                @Override
+                public int width() {
+                    return 0;
+                }
+
+                @Override
+                public void write(ByteBuffer buffer, int offset, String s) {
+                }
+
+                @Override
+                public String read(ByteBuffer buffer, int offset) {
+                    return null;
+                }
+            };
+            assertThrows(IllegalArgumentException.class, () -> new OffHeapMyArrayList<>(codec));
+        }
+    }
+
+    @Nested
+    class TestingModificationMethods {
+
+        @Test
+        void shouldAddAndGrowBy50Percent() throws NoSuchFieldException, IllegalAccessException {
+            for (int i = 0; i < 11; i++) {
+                assertTrue(list.add(i * 100));
+            }
+
+            ByteBuffer buffer = (ByteBuffer) getFieldValue(list, bufferFieldName);
+            assertEquals(16 * Integer.BYTES, buffer.capacity());
+            assertEquals(11, list.size());
+            for (int i = 0; i < 11; i++) {
+                assertEquals(i * 100, list.get(i));
+            }
+        }
+
+        @Test
+        void shouldKeepElements_when_codecRejectsInsertedElement() {
+            for (int i = 0; i < 4; i++) {
+                list.add(i);
+            }
+
+            assertThrows(NullPointerException.class, () -> list.add(1, null));
+
+            assertEquals(4, list.size());
+            for (int i = 0; i < 4; i++) {
+                assertEquals(i, list.get(i));
+            }
+        }
+
+        @Test
+        void shouldInsertSetAndRemoveWithShifting() {
+            list.add(1);
+            list.add(3);
+            list.add(1, 2);
+            list.add(0, 0);
+
+            assertEquals(4, list.size());
+            for (int i = 0; i < 4; i++) {
+                assertEquals(i, list.get(i));
+            }
+            assertEquals(2, list.set(2, 20));
+            assertEquals(20, list.remove(2));
+            assertEquals(0, list.remove(0));
+            assertEquals(2, list.size());
+            assertEquals(1, list.get(0));
+            assertEquals(3, list.get(1));
+        }
+
+        @Test
+        void shouldStoreRecordsWithCustomCodec() {
+            ElementCodec<Point> codec = new ElementCodec<>() {
+                @Override
+                public int width() {
+                    return Integer.BYTES * 2;
+                }
+
+                @Override
+                public void write(ByteBuffer buffer, int offset, Point p) {
+                    buffer.putInt(offset, p.x());
+                    buffer.putInt(offset + Integer.BYTES, p.y());
+                }
+
+                @Override
+                public Point read(ByteBuffer buffer, int offset) {
+                    return new Point(buffer.getInt(offset), buffer.getInt(offset + Integer.BYTES));
+                }
+            };
+            try (OffHeapMyArrayList<Point> points = new OffHeapMyArrayList<>(codec, 1)) {
+                for (int i = 0; i < 100; i++) {
+                    points.add(new Point(i, -i));
+                }
+                points.remove(0);
+
+                assertEquals(99, points.size());
+                assertEquals(new Point(1, -1), points.get(0));
+                assertEquals(new Point(99, -99), points.get(98));
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 1, 10})
+        void shouldThrowIndexOutOfBoundException_when_indexIsWrong(int index) {
+            list.add(1);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.add(index < 0 ? index : index + 1, 1));
+        }
+    }
+
+    @Nested
+    class LifecycleTests {
+
+        @Test
+        void shouldThrowIllegalStateException_when_listIsClosed() {
+            list.add(1);
+
+            list.close();
+
+            assertTrue(list.isClosed());
+            assertEquals(0, list.size());
+            assertThrows(IllegalStateException.class, () -> list.get(0));
+            assertThrows(IllegalStateException.class, () -> list.add(1));
+            assertThrows(IllegalStateException.class, () -> list.clear());
+        }
+
+        @Test
+        void shouldIgnoreRepeatedClose() {
+            list.close();
+
+            assertDoesNotThrow(() -> list.close());
+        }
+
+        @Test
+        void shouldClearAndKeepBuffer() {
+            list.add(1);
+
+            list.clear();
+
+            assertTrue(list.isEmpty());
+            assertTrue(list.add(2));
+            assertEquals(2, list.get(0));
+        }
+    }
+
+    @Nested
+    class IterationTests {
+
+        @Test
+        void shouldIterateAndRemove() {
+            list.add(1);
+            list.add(2);
+            Iterator<Integer> it = list.iterator();
+
+            assertEquals(1, it.next());
+            it.remove();
+            assertEquals(2, it.next());
+            assertFalse(it.hasNext());
+            assertThrows(NoSuchElementException.class, it::next);
+            assertEquals(1, list.size());
+        }
+
+        @Test
+        void shouldThrowConcurrentModificationException_when_listIsModified() {
+            list.add(1);
+            list.add(2);
+            Iterator<Integer> it = list.iterator();
+
+            it.next();
+            list.add(3);
+
+            assertThrows(ConcurrentModificationException.class, it::next);
+        }
+    }
+
+    private record Point(int x, int y) {
+    }
+
+    private Object getFieldValue(OffHeapMyArrayList<?> list, String fieldName) throws NoSuchFieldException, IllegalAccessException {
+        Field field = list.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(list);
+    }
+}
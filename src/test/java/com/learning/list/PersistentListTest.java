@@ -0,0 +1,215 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentListTest {
+
+    /**
+     * version constraints:
+     * add/set/removeLast/remove -> new version, old version unchanged;
+     * sizes across leaf and level boundaries (32, 1024, 32768) -> same elements as a reference list;
+     */
+    @Nested
+    class VersionTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 31, 32, 33, 1024, 1025, 1056, 1057, 32800, 33_000})
+        void shouldMatchReference_when_appending(int size) {
+            PersistentList<Integer> list = PersistentList.empty();
+            for (int i = 0; i < size; i++) {
+                list = list.add(i);
+            }
+
+            assertEquals(size, list.size());
+            for (int i = 0; i < size; i++) {
+                assertEquals(i, list.get(i));
+            }
+        }
+
+        @Test
+        void shouldKeepOldVersions() {
+            PersistentList<String> empty = PersistentList.empty();
+            PersistentList<String> one = empty.add("a");
+            PersistentList<String> two = one.add("b");
+            PersistentList<String> changed = two.set(0, "z");
+            PersistentList<String> shorter = changed.removeLast();
+
+            assertEquals(0, empty.size());
+            assertEquals("[a]", one.toString());
+            assertEquals("[a, b]", two.toString());
+            assertEquals("[z, b]", changed.toString());
+            assertEquals("[z]", shorter.toString());
+        }
+
+        @Test
+        void shouldShrinkThroughLevels_when_removingLast() {
+            int size = 33_000;
+            List<PersistentList<Integer>> versions = new ArrayList<>();
+            PersistentList<Integer> list = PersistentList.empty();
+            for (int i = 0; i < size; i++) {
+                list = list.add(i);
+                versions.add(list);
+            }
+
+            for (int i = size - 1; i >= 0; i--) {
+                list = list.removeLast();
+                if (i > 0) {
+                    assertEquals(versions.get(i - 1), list);
+                }
+            }
+
+            assertTrue(list.isEmpty());
+            assertThrows(NoSuchElementException.class, list::removeLast);
+            assertEquals(size, versions.get(size - 1).size());
+        }
+
+        @Test
+        void shouldMatchReference_when_applyingRandomOperations() {
+            Random random = new Random(11);
+            List<Integer> reference = new ArrayList<>();
+            PersistentList<Integer> list = PersistentList.empty();
+            for (int step = 0; step < 5000; step++) {
+                int op = random.nextInt(10);
+                if (op < 6 || reference.isEmpty()) {
+                    list = list.add(step);
+                    reference.add(step);
+                } else if (op < 8) {
+                    int index = random.nextInt(reference.size());
+                    list = list.set(index, -step);
+                    reference.set(index, -step);
+                } else if (op < 9) {
+                    list = list.removeLast();
+                    reference.remove(reference.size() - 1);
+                } else {
+                    int index = random.nextInt(reference.size());
+                    list = list.remove(index);
+                    reference.remove(index);
+                }
+            }
+
+            assertEquals(reference, list.toMyArrayList());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 3})
+        void shouldThrowIndexOutOfBoundsException_when_indexIsWrong(int index) {
+            PersistentList<Integer> list = PersistentList.<Integer>empty().add(1).add(2).add(3);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+        }
+    }
+
+    /**
+     * builder constraints:
+     * builder -> same list as repeated add;
+     * toBuilder -> source version unchanged;
+     * built builder -> throw IllegalStateException;
+     */
+    @Nested
+    class BuilderTests {
+
+        @Test
+        void shouldBuildSameListAsPersistentAdds() {
+            PersistentList.Builder<Integer> builder = PersistentList.builder();
+            PersistentList<Integer> expected = PersistentList.empty();
+            for (int i = 0; i < 2000; i++) {
+                builder.add(i);
+                expected = expected.add(i);
+            }
+            builder.set(5, -5).set(1999, -1999);
+            expected = expected.set(5, -5).set(1999, -1999);
+
+            PersistentList<Integer> built = builder.build();
+
+            assertEquals(expected, built);
+            assertEquals(expected.hashCode(), built.hashCode());
+        }
+
+        @Test
+        void shouldNotChangeSource_when_editingBuilder() {
+            PersistentList<Integer> source = PersistentList.from(List.of(1, 2, 3));
+            for (int i = 4; i <= 100; i++) {
+                source = source.add(i);
+            }
+            PersistentList<Integer> snapshot = source;
+
+            PersistentList.Builder<Integer> builder = source.toBuilder();
+            builder.set(0, 0).set(99, 0).removeLast().removeLast().add(7);
+            PersistentList<Integer> edited = builder.build();
+
+            assertEquals(100, snapshot.size());
+            assertEquals(1, snapshot.get(0));
+            assertEquals(100, snapshot.get(99));
+            assertEquals(99, edited.size());
+            assertEquals(0, edited.get(0));
+            assertEquals(7, edited.get(98));
+        }
+
+        @Test
+        void shouldThrowIllegalStateException_when_builderIsBuilt() {
+            PersistentList.Builder<Integer> builder = PersistentList.builder();
+            builder.build();
+
+            assertThrows(IllegalStateException.class, () -> builder.add(1));
+            assertThrows(IllegalStateException.class, builder::build);
+        }
+    }
+
+    /**
+     * conversion constraints:
+     * from(MyArrayList) -> same elements; later changes of the source are not visible;
+     * toMyArrayList -> independent mutable copy;
+     * iterator/forEach -> elements in order;
+     */
+    @Nested
+    class ConversionTests {
+
+        @Test
+        void shouldConvertToAndFromMyArrayList() {
+            MyArrayList<Integer> source = new MyArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                source.add(i);
+            }
+
+            PersistentList<Integer> snapshot = PersistentList.from(source);
+            source.set(0, -1);
+            MyArrayList<Integer> copy = snapshot.toMyArrayList();
+            copy.add(100);
+
+            assertEquals(0, snapshot.get(0));
+            assertEquals(100, snapshot.size());
+            assertEquals(101, copy.size());
+            assertArrayEquals(copy.subList(0, 100).toArray(), snapshot.toArray());
+        }
+
+        @Test
+        void shouldIterateInOrder() {
+            PersistentList<Integer> list = PersistentList.from(List.of(1, 2, 3));
+            List<Integer> iterated = new ArrayList<>();
+            List<Integer> visited = new ArrayList<>();
+
+            for (Integer value : list) {
+                iterated.add(value);
+            }
+            list.forEach(visited::add);
+
+            assertEquals(List.of(1, 2, 3), iterated);
+            assertEquals(List.of(1, 2, 3), visited);
+            Iterator<Integer> iterator = PersistentList.<Integer>empty().iterator();
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+    }
+}
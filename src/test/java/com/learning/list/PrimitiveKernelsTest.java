@@ -0,0 +1,93 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the active kernels against the scalar reference. Run with -Pvector to cover the Vector API kernels
+ */
+class PrimitiveKernelsTest {
+    private final PrimitiveKernels kernels = PrimitiveKernels.INSTANCE;
+    private final PrimitiveKernels scalar = new ScalarKernels();
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 7, 8, 15, 16, 17, 63, 64, 65, 1000})
+    void shouldMatchScalarKernels_when_scanningInts(int length) {
+        Random random = new Random(length);
+        int[] a = random.ints(length + 2, -20, 20).toArray();
+        int from = 1;
+        int to = length + 1;
+
+        for (int key = -21; key <= 21; key++) {
+            assertEquals(scalar.indexOf(a, from, to, key), kernels.indexOf(a, from, to, key));
+        }
+        assertEquals(scalar.count(a, from, to, -5, 5), kernels.count(a, from, to, -5, 5));
+        int[] expected = new int[length];
+        int[] actual = new int[length + 1];
+        int n = scalar.filter(a, from, to, -5, 5, expected, 0);
+        assertEquals(n, kernels.filter(a, from, to, -5, 5, actual, 1));
+        assertArrayEquals(Arrays.copyOf(expected, n), Arrays.copyOfRange(actual, 1, n + 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 4, 5, 9, 33, 1000})
+    void shouldMatchScalarKernels_when_scanningLongs(int length) {
+        Random random = new Random(length);
+        long[] a = random.longs(length, -20, 20).toArray();
+
+        for (long key = -21; key <= 21; key++) {
+            assertEquals(scalar.indexOf(a, 0, length, key), kernels.indexOf(a, 0, length, key));
+        }
+        assertEquals(scalar.count(a, 0, length, Long.MIN_VALUE, 0), kernels.count(a, 0, length, Long.MIN_VALUE, 0));
+        long[] expected = new long[length];
+        long[] actual = new long[length];
+        int n = scalar.filter(a, 0, length, 3, 30, expected, 0);
+        assertEquals(n, kernels.filter(a, 0, length, 3, 30, actual, 0));
+        assertArrayEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 4, 5, 9, 33, 1000})
+    void shouldMatchScalarKernels_when_scanningDoubles(int length) {
+        Random random = new Random(length);
+        double[] a = random.ints(length, -20, 20).asDoubleStream().toArray();
+        if (length > 2) {
+            a[length / 2] = Double.NaN;
+        }
+
+        for (double key = -21; key <= 21; key++) {
+            assertEquals(scalar.indexOf(a, 0, length, key), kernels.indexOf(a, 0, length, key));
+        }
+        assertEquals(-1, kernels.indexOf(a, 0, length, Double.NaN));
+        assertEquals(scalar.count(a, 0, length, -2.5, 2.5), kernels.count(a, 0, length, -2.5, 2.5));
+        double[] expected = new double[length];
+        double[] actual = new double[length];
+        int n = scalar.filter(a, 0, length, -2.5, 2.5, expected, 0);
+        assertEquals(n, kernels.filter(a, 0, length, -2.5, 2.5, actual, 0));
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void shouldFillOnlyTheRange() {
+        int[] ints = new int[100];
+        long[] longs = new long[100];
+        double[] doubles = new double[100];
+
+        kernels.fill(ints, 3, 97, 7);
+        kernels.fill(longs, 3, 97, 7L);
+        kernels.fill(doubles, 3, 97, 7.0);
+
+        for (int i = 0; i < 100; i++) {
+            int expected = i >= 3 && i < 97 ? 7 : 0;
+            assertEquals(expected, ints[i]);
+            assertEquals(expected, longs[i]);
+            assertEquals(expected, doubles[i]);
+        }
+    }
+}
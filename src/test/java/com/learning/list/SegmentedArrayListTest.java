@@ -0,0 +1,215 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedArrayListTest {
+    private final String segmentsFieldName = "segments";
+    private SegmentedArrayList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new SegmentedArrayList<>(2);
+    }
+
+    @Nested
+    class ConstructorTest {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1, 31})
+        void shouldThrowIllegalArgumentException_when_segmentShiftIsWrong(int segmentShift) {
+            assertThrows(IllegalArgumentException.class, () -> new SegmentedArrayList<>(segmentShift));
+        }
+    }
+
+    /**
+     * append constraints:
+     * existing segments are never copied, a new segment is allocated when the last one is full;
+     */
+    @Nested
+    class TestingAddMethod {
+
+        @Test
+        void shouldKeepSegments_when_appending() throws NoSuchFieldException, IllegalAccessException {
+            for (int i = 0; i < 4; i++) {
+                list.add(i);
+            }
+            Object[] firstSegment = ((Object[][]) getFieldValue(list, segmentsFieldName))[0];
+
+            for (int i = 4; i < 100; i++) {
+                assertTrue(list.add(i));
+            }
+
+            Object[][] segments = (Object[][]) getFieldValue(list, segmentsFieldName);
+            assertSame(firstSegment, segments[0]);
+            assertEquals(100, list.size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, list.get(i));
+            }
+        }
+
+        @Test
+        void shouldWorkWithDefaultSegmentSize() {
+            SegmentedArrayList<Integer> list = new SegmentedArrayList<>();
+            for (int i = 0; i < 100_000; i++) {
+                list.add(i);
+            }
+
+            assertEquals(100_000L, list.size());
+            assertEquals(16_384, list.get(16_384));
+            assertEquals(99_999, list.get(99_999L));
+        }
+
+        @ParameterizedTest
+        @ValueSource(longs = {-1, 11, Long.MAX_VALUE})
+        void shouldThrowIndexOutOfBoundException_when_indexIsWrong(long index) {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            assertThrows(IndexOutOfBoundsException.class, () -> list.add(index, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+        }
+    }
+
+    /**
+     * shifting constraints:
+     * inserts and removes across segment boundaries keep the same order as java.util.ArrayList;
+     */
+    @Nested
+    class ShiftingTests {
+
+        @Test
+        void shouldInsertAcrossSegments() {
+            for (int i = 0; i < 8; i++) {
+                list.add(i);
+            }
+
+            list.add(1, 100);
+            list.add(0, 200);
+            list.add(10, 300);
+
+            List<Integer> expected = List.of(200, 0, 100, 1, 2, 3, 4, 5, 6, 7, 300);
+            assertEquals(expected.size(), list.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), list.get(i));
+            }
+        }
+
+        @Test
+        void shouldRemoveAcrossSegments() throws NoSuchFieldException, IllegalAccessException {
+            for (int i = 0; i < 9; i++) {
+                list.add(i);
+            }
+
+            assertEquals(1, list.remove(1));
+            assertEquals(0, list.remove(0));
+            assertEquals(8, list.remove(6));
+
+            List<Integer> expected = List.of(2, 3, 4, 5, 6, 7);
+            assertEquals(expected.size(), list.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), list.get(i));
+            }
+            Object[][] segments = (Object[][]) getFieldValue(list, segmentsFieldName);
+            assertNull(segments[1][2]);
+            assertNull(segments[1][3]);
+        }
+
+        @Test
+        void shouldMatchArrayList_when_randomEditsAreApplied() {
+            List<Integer> expected = new ArrayList<>();
+            Random random = new Random(42);
+            for (int step = 0; step < 5_000; step++) {
+                int operation = random.nextInt(4);
+                if (operation < 2 || expected.isEmpty()) {
+                    int index = random.nextInt(expected.size() + 1);
+                    expected.add(index, step);
+                    list.add(index, step);
+                } else if (operation == 2) {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), list.remove(index));
+                } else {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.set(index, -step), list.set(index, -step));
+                }
+            }
+
+            assertEquals(expected.size(), list.size());
+            int i = 0;
+            for (Integer value : list) {
+                assertEquals(expected.get(i++), value);
+            }
+        }
+
+        @Test
+        void shouldClearAndReuse() {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            list.clear();
+
+            assertTrue(list.isEmpty());
+            list.add(5);
+            assertEquals(5, list.get(0));
+        }
+    }
+
+    @Nested
+    class IterationTests {
+
+        @Test
+        void shouldIterateAndRemove() {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+            Iterator<Integer> it = list.iterator();
+
+            while (it.hasNext()) {
+                if (it.next() % 2 == 0) {
+                    it.remove();
+                }
+            }
+
+            assertEquals(5, list.size());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(2 * i + 1, list.get(i));
+            }
+            assertThrows(NoSuchElementException.class, it::next);
+        }
+
+        @Test
+        void shouldThrowConcurrentModificationException_when_listIsModified() {
+            list.add(1);
+            list.add(2);
+            Iterator<Integer> it = list.iterator();
+
+            it.next();
+            list.remove(0);
+
+            assertThrows(ConcurrentModificationException.class, it::next);
+        }
+    }
+
+    private Object getFieldValue(SegmentedArrayList<?> list, String fieldName) throws NoSuchFieldException, IllegalAccessException {
+        Field field = list.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(list);
+    }
+}
@@ -0,0 +1,182 @@
+package com.learning.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedMyArrayListTest {
+    private SortedMyArrayList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new SortedMyArrayList<>(Comparator.naturalOrder());
+    }
+
+    @Test
+    void shouldThrowNullPointerException_when_comparatorIsNull() {
+        assertThrows(NullPointerException.class, () -> new SortedMyArrayList<Integer>(null));
+    }
+
+    /**
+     * add constraints:
+     * add -> element inserted at its sorted position;
+     * equal elements -> kept in insertion order;
+     */
+    @Nested
+    class AddTests {
+
+        @Test
+        void shouldKeepElementsSorted() {
+            for (int value : new int[]{5, 1, 4, 2, 3}) {
+                list.add(value);
+            }
+
+            assertEquals(List.of(1, 2, 3, 4, 5), toList(list));
+        }
+
+        @Test
+        void shouldKeepInsertionOrder_when_elementsCompareEqual() {
+            SortedMyArrayList<String> byLength = new SortedMyArrayList<>(Comparator.comparingInt(String::length));
+            byLength.add("bb");
+            byLength.add("a");
+            byLength.add("cc");
+            byLength.add("dd");
+
+            assertEquals(List.of("a", "bb", "cc", "dd"), toList(byLength));
+        }
+
+        @Test
+        void shouldMatchSortedReference_when_addingRandomElements() {
+            Random random = new Random(42);
+            List<Integer> reference = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                int value = random.nextInt(100);
+                list.add(value);
+                reference.add(value);
+            }
+            reference.sort(null);
+
+            assertEquals(reference, toList(list));
+        }
+    }
+
+    /**
+     * bulk constraints:
+     * addAll -> unsorted batch is sorted and merged;
+     * addAllSorted -> sorted batch merged in one pass;
+     * addAllSorted with unsorted batch -> throw IllegalArgumentException, list unchanged;
+     */
+    @Nested
+    class BulkTests {
+
+        @Test
+        void shouldMergeUnsortedBatch() {
+            list.add(2);
+            list.add(8);
+
+            assertTrue(list.addAll(List.of(9, 1, 5)));
+            assertFalse(list.addAll(List.of()));
+
+            assertEquals(List.of(1, 2, 5, 8, 9), toList(list));
+        }
+
+        @Test
+        void shouldMergeSortedBatch() {
+            list.add(3);
+            list.add(6);
+            MyArrayList<Integer> batch = new MyArrayList<>();
+            batch.add(1);
+            batch.add(3);
+            batch.add(7);
+
+            assertTrue(list.addAllSorted(batch));
+
+            assertEquals(List.of(1, 3, 3, 6, 7), toList(list));
+        }
+
+        @Test
+        void shouldThrowIllegalArgumentException_when_batchIsNotSorted() {
+            list.add(3);
+            MyArrayList<Integer> batch = new MyArrayList<>();
+            batch.add(2);
+            batch.add(1);
+
+            assertThrows(IllegalArgumentException.class, () -> list.addAllSorted(batch));
+            assertEquals(List.of(3), toList(list));
+        }
+
+        @Test
+        void shouldSortInitialElements() {
+            MyArrayList<Integer> source = new MyArrayList<>();
+            source.add(4);
+            source.add(2);
+            source.add(3);
+
+            SortedMyArrayList<Integer> sorted = new SortedMyArrayList<>(Comparator.naturalOrder(), source);
+
+            assertEquals(List.of(2, 3, 4), toList(sorted));
+            assertEquals(4, source.get(0));
+        }
+    }
+
+    /**
+     * lookup constraints:
+     * indexOf -> first equal element or -1;
+     * removeElement -> removes first equal element;
+     */
+    @Nested
+    class LookupTests {
+
+        @Test
+        void shouldFindFirstEqualElement() {
+            for (int value : new int[]{1, 3, 3, 3, 5}) {
+                list.add(value);
+            }
+
+            assertEquals(1, list.indexOf(3));
+            assertEquals(-1, list.indexOf(4));
+            assertEquals(-1, list.indexOf(6));
+            assertTrue(list.contains(5));
+            assertFalse(list.contains(0));
+        }
+
+        @Test
+        void shouldRemoveElements() {
+            for (int value : new int[]{1, 2, 3}) {
+                list.add(value);
+            }
+
+            assertTrue(list.removeElement(2));
+            assertFalse(list.removeElement(2));
+            assertEquals(1, list.remove(0));
+            assertEquals(List.of(3), toList(list));
+
+            list.clear();
+
+            assertTrue(list.isEmpty());
+        }
+
+        @Test
+        void shouldReturnIndependentCopy() {
+            list.add(1);
+            MyArrayList<Integer> copy = list.toMyArrayList();
+            copy.add(0);
+
+            assertEquals(1, list.size());
+            assertEquals(2, copy.size());
+        }
+    }
+
+    private static <T> List<T> toList(SortedMyArrayList<T> sorted) {
+        List<T> result = new ArrayList<>();
+        sorted.forEach(result::add);
+        return result;
+    }
+}
@@ -0,0 +1,178 @@
+package com.learning.list;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link PrimitiveKernels} on the incubating Vector API. Each loop processes one preferred-width
+ * vector per step and finishes the remainder with the scalar loop. Compiled only with the
+ * {@code vector} profile; loaded by {@link PrimitiveKernels#INSTANCE} when the JVM runs with
+ * {@code --add-modules jdk.incubator.vector}
+ */
+final class VectorKernels implements PrimitiveKernels {
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private final ScalarKernels scalar = new ScalarKernels();
+
+    @Override
+    public int indexOf(int[] a, int from, int to, int key) {
+        int i = from;
+        int upper = from + INT_SPECIES.loopBound(to - from);
+        for (; i < upper; i += INT_SPECIES.length()) {
+            VectorMask<Integer> found = IntVector.fromArray(INT_SPECIES, a, i).compare(VectorOperators.EQ, key);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return scalar.indexOf(a, i, to, key);
+    }
+
+    @Override
+    public int count(int[] a, int from, int to, int min, int max) {
+        int i = from;
+        int upper = from + INT_SPECIES.loopBound(to - from);
+        int count = 0;
+        for (; i < upper; i += INT_SPECIES.length()) {
+            IntVector v = IntVector.fromArray(INT_SPECIES, a, i);
+            count += v.compare(VectorOperators.GE, min).and(v.compare(VectorOperators.LE, max)).trueCount();
+        }
+        return count + scalar.count(a, i, to, min, max);
+    }
+
+    @Override
+    public void fill(int[] a, int from, int to, int value) {
+        int i = from;
+        int upper = from + INT_SPECIES.loopBound(to - from);
+        IntVector v = IntVector.broadcast(INT_SPECIES, value);
+        for (; i < upper; i += INT_SPECIES.length()) {
+            v.intoArray(a, i);
+        }
+        scalar.fill(a, i, to, value);
+    }
+
+    @Override
+    public int filter(int[] a, int from, int to, int min, int max, int[] dst, int dstPos) {
+        int i = from;
+        int upper = from + INT_SPECIES.loopBound(to - from);
+        int w = dstPos;
+        for (; i < upper; i += INT_SPECIES.length()) {
+            IntVector v = IntVector.fromArray(INT_SPECIES, a, i);
+            long selected = v.compare(VectorOperators.GE, min).and(v.compare(VectorOperators.LE, max)).toLong();
+            while (selected != 0) {
+                dst[w++] = a[i + Long.numberOfTrailingZeros(selected)];
+                selected &= selected - 1;
+            }
+        }
+        return w - dstPos + scalar.filter(a, i, to, min, max, dst, w);
+    }
+
+    @Override
+    public int indexOf(long[] a, int from, int to, long key) {
+        int i = from;
+        int upper = from + LONG_SPECIES.loopBound(to - from);
+        for (; i < upper; i += LONG_SPECIES.length()) {
+            VectorMask<Long> found = LongVector.fromArray(LONG_SPECIES, a, i).compare(VectorOperators.EQ, key);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return scalar.indexOf(a, i, to, key);
+    }
+
+    @Override
+    public int count(long[] a, int from, int to, long min, long max) {
+        int i = from;
+        int upper = from + LONG_SPECIES.loopBound(to - from);
+        int count = 0;
+        for (; i < upper; i += LONG_SPECIES.length()) {
+            LongVector v = LongVector.fromArray(LONG_SPECIES, a, i);
+            count += v.compare(VectorOperators.GE, min).and(v.compare(VectorOperators.LE, max)).trueCount();
+        }
+        return count + scalar.count(a, i, to, min, max);
+    }
+
+    @Override
+    public void fill(long[] a, int from, int to, long value) {
+        int i = from;
+        int upper = from + LONG_SPECIES.loopBound(to - from);
+        LongVector v = LongVector.broadcast(LONG_SPECIES, value);
+        for (; i < upper; i += LONG_SPECIES.length()) {
+            v.intoArray(a, i);
+        }
+        scalar.fill(a, i, to, value);
+    }
+
+    @Override
+    public int filter(long[] a, int from, int to, long min, long max, long[] dst, int dstPos) {
+        int i = from;
+        int upper = from + LONG_SPECIES.loopBound(to - from);
+        int w = dstPos;
+        for (; i < upper; i += LONG_SPECIES.length()) {
+            LongVector v = LongVector.fromArray(LONG_SPECIES, a, i);
+            long selected = v.compare(VectorOperators.GE, min).and(v.compare(VectorOperators.LE, max)).toLong();
+            while (selected != 0) {
+                dst[w++] = a[i + Long.numberOfTrailingZeros(selected)];
+                selected &= selected - 1;
+            }
+        }
+        return w - dstPos + scalar.filter(a, i, to, min, max, dst, w);
+    }
+
+    @Override
+    public int indexOf(double[] a, int from, int to, double key) {
+        int i = from;
+        int upper = from + DOUBLE_SPECIES.loopBound(to - from);
+        for (; i < upper; i += DOUBLE_SPECIES.length()) {
+            VectorMask<Double> found = DoubleVector.fromArray(DOUBLE_SPECIES, a, i).compare(VectorOperators.EQ, key);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return scalar.indexOf(a, i, to, key);
+    }
+
+    @Override
+    public int count(double[] a, int from, int to, double min, double max) {
+        int i = from;
+        int upper = from + DOUBLE_SPECIES.loopBound(to - from);
+        int count = 0;
+        for (; i < upper; i += DOUBLE_SPECIES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLE_SPECIES, a, i);
+            count += v.compare(VectorOperators.GE, min).and(v.compare(VectorOperators.LE, max)).trueCount();
+        }
+        return count + scalar.count(a, i, to, min, max);
+    }
+
+    @Override
+    public void fill(double[] a, int from, int to, double value) {
+        int i = from;
+        int upper = from + DOUBLE_SPECIES.loopBound(to - from);
+        DoubleVector v = DoubleVector.broadcast(DOUBLE_SPECIES, value);
+        for (; i < upper; i += DOUBLE_SPECIES.length()) {
+            v.intoArray(a, i);
+        }
+        scalar.fill(a, i, to, value);
+    }
+
+    @Override
+    public int filter(double[] a, int from, int to, double min, double max, double[] dst, int dstPos) {
+        int i = from;
+        int upper = from + DOUBLE_SPECIES.loopBound(to - from);
+        int w = dstPos;
+        for (; i < upper; i += DOUBLE_SPECIES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLE_SPECIES, a, i);
+            long selected = v.compare(VectorOperators.GE, min).and(v.compare(VectorOperators.LE, max)).toLong();
+            while (selected != 0) {
+                dst[w++] = a[i + Long.numberOfTrailingZeros(selected)];
+                selected &= selected - 1;
+            }
+        }
+        return w - dstPos + scalar.filter(a, i, to, min, max, dst, w);
+    }
+}